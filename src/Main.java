@@ -1,8 +1,9 @@
+import builder.GameLoop;
 import builder.JavaBeanFarm;
+import builder.ThreadedGame;
 import builder.world.WorldLoadException;
 
 import engine.Engine;
-import engine.game.Game;
 import engine.renderer.Dimensions;
 import engine.renderer.TileGrid;
 
@@ -27,14 +28,18 @@ public class Main {
      */
     public static void main(String[] args) throws IOException, WorldLoadException {
         Dimensions dimensions = new TileGrid(TILES_PER_ROW, SIZE);
-        Game game =
+        JavaBeanFarm game =
                 new JavaBeanFarm(dimensions, new FileReader("resources/uqLogo.map"), new FileReader("resources/uqLogo.details"));
-        Engine engine = new Engine(game, dimensions);
+        // tick the game on its own thread, so that a slow draw does not hold up the game
+        ThreadedGame threaded = new ThreadedGame(game);
+        Engine engine = new Engine(threaded, dimensions);
 
         // Optionally uncomment this line to turn on debug mode
         // engine.debug().on();
 
+        threaded.start(engine.state());
         run(engine);
+        threaded.stop();
     }
 
     /**
@@ -43,10 +48,7 @@ public class Main {
      * @param engine The engine instance to execute.
      */
     private static void run(Engine engine) {
-        while (engine.isRunning()) {
-            if (engine.isTimeForNextTick()) {
-                engine.tick();
-            }
-        }
+        // parks between ticks rather than spinning a core on engine.isTimeForNextTick()
+        new GameLoop(engine).run();
     }
 }
@@ -0,0 +1,200 @@
+package builder;
+
+import engine.Engine;
+
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Runs an {@link Engine} at a fixed timestep, parking the thread between ticks rather than
+ * spinning on {@link Engine#isTimeForNextTick()}.
+ *
+ * <p>Each tick is due one timestep after the last, whenever the ticks before it actually ran, so
+ * the game keeps time on average. A tick that is due is run straight away; if the loop has fallen
+ * behind by several ticks (e.g. after a slow tick or a pause of the process), it runs the ticks it
+ * missed back to back, up to the most catch-up ticks set by {@link #setMaxCatchUp(int)}, and drops
+ * the rest so that the game does not race to catch up on a long pause.
+ *
+ * <p>The engine draws the game at the end of every tick (see {@link Engine#tick()}), so each tick
+ * is also a frame. A frame rate cap (see {@link #setMaxFps(int)}) therefore keeps ticks, catch-up
+ * ticks included, at least that far apart; a cap below the tick rate slows the game down.
+ *
+ * <p>The loop measures how late each tick starts after it was due, as its jitter.
+ *
+ * <p>A loop may also run a tick other than the engine's, e.g. the simulation of a {@link
+ * ThreadedGame} on its own thread, where each tick need not be a frame.
+ */
+public final class GameLoop {
+
+    /** The time between ticks of the engine's own loop, about 66 ticks per second. */
+    public static final long DEFAULT_TIMESTEP_NANOS = 15_000_000L;
+    /** The most ticks the loop runs back to back by default when it has fallen behind. */
+    public static final int DEFAULT_MAX_CATCH_UP = 5;
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private final Runnable tick;
+    private final BooleanSupplier running;
+    private final long timestep;
+    private int maxCatchUp = DEFAULT_MAX_CATCH_UP;
+    /** The least time between frames, or 0 if the frame rate is not capped. */
+    private long minFrameTime = 0;
+
+    private long ticks = 0;
+    private long dropped = 0;
+    private long totalJitter = 0;
+    private long maxJitter = 0;
+
+    /**
+     * Creates a loop that runs the engine at {@link #DEFAULT_TIMESTEP_NANOS}.
+     *
+     * @param engine the engine to run
+     */
+    public GameLoop(Engine engine) {
+        this(engine, DEFAULT_TIMESTEP_NANOS);
+    }
+
+    /**
+     * Creates a loop that runs the engine at the given timestep.
+     *
+     * @param engine the engine to run
+     * @param timestep the time between ticks in nanoseconds
+     * @throws IllegalArgumentException if timestep is less than 1
+     */
+    public GameLoop(Engine engine, long timestep) {
+        this(engine::tick, engine::isRunning, timestep);
+    }
+
+    /**
+     * Creates a loop that runs the given tick at the given timestep for as long as the given
+     * condition holds.
+     *
+     * @param tick the tick to run
+     * @param running whether the loop should keep running, checked before each tick
+     * @param timestep the time between ticks in nanoseconds
+     * @throws IllegalArgumentException if timestep is less than 1
+     */
+    public GameLoop(Runnable tick, BooleanSupplier running, long timestep) {
+        if (timestep < 1) {
+            throw new IllegalArgumentException("Timestep must be at least 1ns: " + timestep);
+        }
+        this.tick = tick;
+        this.running = running;
+        this.timestep = timestep;
+    }
+
+    /**
+     * Sets the most ticks the loop runs back to back when it has fallen behind, beyond which the
+     * missed ticks are dropped.
+     *
+     * @param maxCatchUp the most ticks to run at once
+     * @throws IllegalArgumentException if maxCatchUp is less than 1
+     */
+    public void setMaxCatchUp(int maxCatchUp) {
+        if (maxCatchUp < 1) {
+            throw new IllegalArgumentException("Must run at least 1 tick at once: " + maxCatchUp);
+        }
+        this.maxCatchUp = maxCatchUp;
+    }
+
+    /**
+     * Caps the number of frames, and so ticks, run each second.
+     *
+     * @param maxFps the most frames per second, or 0 for no cap
+     * @throws IllegalArgumentException if maxFps is negative
+     */
+    public void setMaxFps(int maxFps) {
+        if (maxFps < 0) {
+            throw new IllegalArgumentException("Frame rate cap cannot be negative: " + maxFps);
+        }
+        this.minFrameTime = maxFps == 0 ? 0 : NANOS_PER_SECOND / maxFps;
+    }
+
+    /**
+     * Runs the engine, or tick, until it stops running or the thread is interrupted. An
+     * interrupted thread keeps its interrupt status.
+     */
+    public void run() {
+        long due = System.nanoTime() + timestep;
+        long lastFrame = Long.MIN_VALUE;
+        while (running.getAsBoolean() && !Thread.currentThread().isInterrupted()) {
+            long now = System.nanoTime();
+            if (now - due < 0) {
+                // parking may end early, so the loop checks the time again
+                LockSupport.parkNanos(due - now);
+                continue;
+            }
+            long behind = (now - due) / timestep + 1;
+            int steps = (int) Math.min(behind, maxCatchUp);
+            for (int i = 0; i < steps && running.getAsBoolean(); i++) {
+                lastFrame = waitForFrame(lastFrame);
+                record(lastFrame - (due + i * timestep));
+                tick.run();
+                ticks++;
+            }
+            if (behind > steps) {
+                dropped += behind - steps;
+                due = System.nanoTime() + timestep;
+            } else {
+                due += steps * timestep;
+            }
+        }
+    }
+
+    /** Parks until the frame rate cap allows the next frame, returning when it starts. */
+    private long waitForFrame(long lastFrame) {
+        long now = System.nanoTime();
+        if (minFrameTime == 0) {
+            return now;
+        }
+        long start = lastFrame == Long.MIN_VALUE ? now : lastFrame + minFrameTime;
+        while (now - start < 0 && !Thread.currentThread().isInterrupted()) {
+            LockSupport.parkNanos(start - now);
+            now = System.nanoTime();
+        }
+        return now;
+    }
+
+    private void record(long jitter) {
+        long late = Math.max(0, jitter);
+        totalJitter += late;
+        maxJitter = Math.max(maxJitter, late);
+    }
+
+    /**
+     * Gets the number of ticks the loop has run.
+     *
+     * @return the number of ticks run
+     */
+    public long getTicks() {
+        return ticks;
+    }
+
+    /**
+     * Gets the number of ticks the loop has dropped after falling behind by more than the most
+     * catch-up ticks.
+     *
+     * @return the number of ticks dropped
+     */
+    public long getDroppedTicks() {
+        return dropped;
+    }
+
+    /**
+     * Gets the mean time the ticks run so far started after they were due.
+     *
+     * @return the mean jitter in nanoseconds, or 0 if no tick has run
+     */
+    public long getMeanJitter() {
+        return ticks == 0 ? 0 : totalJitter / ticks;
+    }
+
+    /**
+     * Gets the longest time a tick run so far started after it was due.
+     *
+     * @return the largest jitter in nanoseconds
+     */
+    public long getMaxJitter() {
+        return maxJitter;
+    }
+}
@@ -63,6 +63,7 @@ public class JavaBeanFarm implements Game {
 
     private final Inventory inventory;
     private final List<Overlay> overlays = new ArrayList<>();
+    private int lastRenderSize = 0;
 
     private String readAllReader(Reader reader) throws IOException {
         BufferedReader br = new BufferedReader(reader);
@@ -121,8 +122,7 @@ public class JavaBeanFarm implements Game {
                             spawnerDetails.getDuration()));
         }
 
-        String worldContent = readAllReader(mapReader);
-        this.world = WorldBuilder.fromTiles(WorldBuilder.fromString(dimensions, worldContent));
+        this.world = WorldBuilder.fromReader(dimensions, mapReader);
 
         final List<CabbageDetails> cabbageSpawnPoints =
                 OverlayBuilder.getCabbageSpawnDetailsFromString(detailsContent);
@@ -165,6 +165,42 @@ public class JavaBeanFarm implements Game {
         this(dimensions, new FileReader(mapFile), new FileReader(detailsFile));
     }
 
+    /**
+     * Sets whether birds and guard bees that are cleaned up are reused for the next ones to
+     * spawn, see {@link EnemyManager#setPooling(boolean)} and {@link
+     * NpcManager#setPooling(boolean)}. Pooling is off by default, as a reused bird or bee keeps
+     * its ID, and a bee locked on to a bird that is cleaned up and reused is then locked on to
+     * the new bird.
+     *
+     * @param pooling true to reuse birds and bees, false to always spawn new ones
+     */
+    public void setPooling(boolean pooling) {
+        this.npcs.setPooling(pooling);
+        this.enemies.setPooling(pooling);
+    }
+
+    /**
+     * Sets whether enemies are planned in parallel each tick, see {@link
+     * EnemyManager#setParallel(boolean)}. The game plays out the same either way.
+     *
+     * @param parallel true to plan enemies in parallel, false to plan them one at a time
+     */
+    public void setParallel(boolean parallel) {
+        this.enemies.setParallel(parallel);
+    }
+
+    /**
+     * Sets whether enemies are planned in parallel each tick, and the fewest enemies there must
+     * be for them to be, see {@link EnemyManager#setParallel(boolean, int)}.
+     *
+     * @param parallel true to plan enemies in parallel, false to plan them one at a time
+     * @param threshold the fewest enemies to plan in parallel
+     * @throws IllegalArgumentException if threshold is less than 1
+     */
+    public void setParallel(boolean parallel, int threshold) {
+        this.enemies.setParallel(parallel, threshold);
+    }
+
     /**
      * Ticks the internal game state forward by one frame. a
      *
@@ -210,20 +246,22 @@ public class JavaBeanFarm implements Game {
      */
     @Override
     public List<Renderable> render() {
+        // the core keeps the list to draw later, so each frame gets a new list; every group
+        // appends to it directly and it is sized from the last frame so it never has to grow
+        List<Renderable> renderables = new ArrayList<>(this.lastRenderSize);
 
-        List<Renderable> renderables = new ArrayList<>();
+        this.world.renderInto(renderables);
 
-        renderables.addAll(this.world.render());
+        this.npcs.renderInto(renderables);
+        this.enemies.renderInto(renderables);
 
-        renderables.addAll(this.npcs.render());
-        renderables.addAll(this.enemies.render());
+        this.playerManager.renderInto(renderables);
 
-        renderables.addAll(this.playerManager.render());
-
-        for (Overlay overlay : overlays) {
-            renderables.addAll(overlay.render());
+        for (int i = 0; i < overlays.size(); i++) {
+            overlays.get(i).renderInto(renderables);
         }
 
+        this.lastRenderSize = renderables.size();
         return renderables;
     }
 }
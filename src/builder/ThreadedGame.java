@@ -0,0 +1,173 @@
+package builder;
+
+import builder.ui.RenderSnapshot;
+
+import engine.EngineState;
+import engine.game.Game;
+import engine.input.KeyState;
+import engine.input.MouseState;
+import engine.renderer.Dimensions;
+import engine.renderer.Renderable;
+
+import java.util.List;
+
+/**
+ * Runs a game on a simulation thread of its own, so that drawing the game does not hold up
+ * ticking it, and the other way round.
+ *
+ * <p>Once {@link #start(EngineState) started}, the simulation thread ticks the game at a fixed
+ * timestep (see {@link GameLoop}) and, at the end of each tick, takes a {@link RenderSnapshot} of
+ * the game's renderables and publishes it. The engine is given the threaded game in place of the
+ * game: its ticks do nothing, and its renders return the latest published snapshot. The snapshots
+ * are double-buffered: the simulation builds the next snapshot while the engine draws the last
+ * one, and as a snapshot is immutable, a core that keeps the list to draw later still draws it
+ * as it was.
+ *
+ * <p>The game is only ever ticked and rendered on the simulation thread. It reads the keyboard
+ * and mouse through the engine's state as it ticks, but counts its own ticks (see {@link
+ * EngineState#currentTick()}), which run independently of the frames drawn.
+ */
+public final class ThreadedGame implements Game {
+
+    private final Game game;
+    private final long timestep;
+    private volatile RenderSnapshot latest;
+    private volatile boolean running = false;
+    private volatile RuntimeException failure;
+    private Thread simulation;
+    /** The number of ticks run, only used by the simulation thread. */
+    private long ticks = 0;
+
+    /**
+     * Creates a threaded game that ticks the game at {@link GameLoop#DEFAULT_TIMESTEP_NANOS}.
+     *
+     * @param game the game to run
+     */
+    public ThreadedGame(Game game) {
+        this(game, GameLoop.DEFAULT_TIMESTEP_NANOS);
+    }
+
+    /**
+     * Creates a threaded game that ticks the game at the given timestep.
+     *
+     * @param game the game to run, which must not be ticked or rendered by anything else
+     * @param timestep the time between ticks of the game in nanoseconds
+     * @throws IllegalArgumentException if timestep is less than 1
+     */
+    public ThreadedGame(Game game, long timestep) {
+        if (timestep < 1) {
+            throw new IllegalArgumentException("Timestep must be at least 1ns: " + timestep);
+        }
+        this.game = game;
+        this.timestep = timestep;
+        this.latest = RenderSnapshot.of(0, game.render());
+    }
+
+    /**
+     * Starts ticking the game on the simulation thread.
+     *
+     * @param input the state to read the keyboard, mouse and dimensions from, usually {@link
+     *     engine.Engine#state()}
+     * @throws IllegalStateException if the game has already been started
+     */
+    public synchronized void start(EngineState input) {
+        if (simulation != null) {
+            throw new IllegalStateException("The simulation has already been started");
+        }
+        EngineState state = new SimulationState(input);
+        GameLoop loop = new GameLoop(() -> step(state), () -> running, timestep);
+        running = true;
+        simulation = new Thread(loop::run, "simulation");
+        simulation.setDaemon(true);
+        simulation.start();
+    }
+
+    /**
+     * Stops ticking the game, waiting for the tick in progress to finish. The latest snapshot is
+     * kept.
+     */
+    public synchronized void stop() {
+        running = false;
+        if (simulation == null) {
+            return;
+        }
+        simulation.interrupt();
+        try {
+            simulation.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /** Ticks the game once and publishes a snapshot of it, stopping if the game throws. */
+    private void step(EngineState state) {
+        try {
+            game.tick(state);
+            ticks++;
+            latest = RenderSnapshot.of(ticks, game.render());
+        } catch (RuntimeException e) {
+            failure = e;
+            running = false;
+        }
+    }
+
+    /**
+     * Gets the snapshot published at the end of the latest tick.
+     *
+     * @return the latest snapshot, or one of the game as it was created if it has not been ticked
+     */
+    public RenderSnapshot getSnapshot() {
+        return latest;
+    }
+
+    /**
+     * Does nothing, as the game is ticked on the simulation thread.
+     *
+     * @param state the state of the engine
+     */
+    @Override
+    public void tick(EngineState state) {}
+
+    /**
+     * Returns the renderables of the latest snapshot (see {@link #getSnapshot()}).
+     *
+     * @return a read-only list of the renderables as they were at the end of the latest tick
+     * @throws IllegalStateException if ticking the game threw, with what it threw as the cause
+     */
+    @Override
+    public List<Renderable> render() {
+        if (failure != null) {
+            throw new IllegalStateException("The simulation stopped", failure);
+        }
+        return latest.getRenderables();
+    }
+
+    /** The engine's state as seen by the simulation, which counts its own ticks. */
+    private final class SimulationState implements EngineState {
+        private final EngineState input;
+
+        private SimulationState(EngineState input) {
+            this.input = input;
+        }
+
+        @Override
+        public Dimensions getDimensions() {
+            return input.getDimensions();
+        }
+
+        @Override
+        public MouseState getMouse() {
+            return input.getMouse();
+        }
+
+        @Override
+        public KeyState getKeys() {
+            return input.getKeys();
+        }
+
+        @Override
+        public int currentTick() {
+            return (int) ticks;
+        }
+    }
+}
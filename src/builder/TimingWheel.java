@@ -0,0 +1,219 @@
+package builder;
+
+import engine.EngineState;
+import engine.timing.TickTimer;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * A hierarchical timing wheel that wakes components on the tick their timer fires, rather than
+ * every component ticking its own timer each tick.
+ *
+ * <p>A component registers a callback to run after a number of ticks, once or repeatedly (see
+ * {@link #schedule(int, Tickable)} and {@link #scheduleRepeating(int, Tickable)}), and the owner
+ * of the wheel {@link #advance(EngineState, GameState) advances} it once per game tick. Timers due
+ * within {@value #SLOTS} ticks wait in a slot of the lowest wheel; later timers wait in a coarser
+ * wheel and move down a wheel each time the finer wheel wraps around to their slot. Advancing the
+ * wheel therefore only looks at the timers that fire, plus each timer once per wheel it moves
+ * down, however many timers are waiting.
+ *
+ * <p>Timers that fire on the same tick run in the order they were first scheduled, so a repeating
+ * timer keeps its place among the others no matter how often it has fired.
+ */
+public final class TimingWheel {
+
+    /** The number of bits of a deadline that pick its slot in each wheel. */
+    private static final int SLOT_BITS = 6;
+    /** The number of slots in each wheel. */
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+    /** The number of wheels, which together cover timers due within 64^4 ticks. */
+    private static final int LEVELS = 4;
+
+    private static final Comparator<Timer> BY_ORDINAL =
+            Comparator.comparingLong(timer -> timer.ordinal);
+
+    private final List<List<Timer>> wheels = new ArrayList<>();
+    /** Timers due too far ahead for the coarsest wheel, placed again each time it wraps. */
+    private final List<Timer> overflow = new ArrayList<>();
+    private final List<Timer> due = new ArrayList<>();
+    private long now = 0;
+    private long nextOrdinal = 0;
+
+    /**
+     * Creates a timing wheel with no timers, at tick 0.
+     */
+    public TimingWheel() {
+        for (int i = 0; i < LEVELS * SLOTS; i++) {
+            wheels.add(new ArrayList<>());
+        }
+    }
+
+    /**
+     * Gets the number of times the wheel has been advanced.
+     *
+     * @return the current tick of the wheel
+     */
+    public long getTicks() {
+        return now;
+    }
+
+    /**
+     * Schedules a callback to run once, when the wheel has been advanced the given number of
+     * times.
+     *
+     * @param delay the number of ticks until the callback runs
+     * @param callback the callback to run
+     * @return the timer, which can be cancelled
+     * @throws IllegalArgumentException if delay is less than 1
+     */
+    public Timer schedule(int delay, Tickable callback) {
+        return start(delay, 0, callback);
+    }
+
+    /**
+     * Schedules a callback to run every given number of ticks, i.e. on the same ticks a {@link
+     * engine.timing.RepeatingTimer} of that interval ticked alongside the wheel would finish on.
+     *
+     * @param interval the number of ticks between each run of the callback
+     * @param callback the callback to run
+     * @return the timer, which can be cancelled
+     * @throws IllegalArgumentException if interval is less than 1
+     */
+    public Timer scheduleRepeating(int interval, Tickable callback) {
+        return start(interval, interval, callback);
+    }
+
+    private Timer start(int delay, int interval, Tickable callback) {
+        if (delay < 1) {
+            throw new IllegalArgumentException("Timers must be at least 1 tick long: " + delay);
+        }
+        Timer timer = new Timer(now + delay, interval, nextOrdinal++, callback);
+        place(timer);
+        return timer;
+    }
+
+    /**
+     * Advances the wheel by one tick, running the callbacks of the timers that fire on it in the
+     * order they were first scheduled. Callbacks may schedule and cancel timers.
+     *
+     * @param state the current engine state, passed to the callbacks
+     * @param game the current game state, passed to the callbacks
+     */
+    public void advance(EngineState state, GameState game) {
+        now++;
+        cascade();
+        List<Timer> slot = wheels.get((int) (now & SLOT_MASK));
+        if (slot.isEmpty()) {
+            return;
+        }
+        due.addAll(slot);
+        slot.clear();
+        due.sort(BY_ORDINAL);
+        for (int i = 0; i < due.size(); i++) {
+            Timer timer = due.get(i);
+            if (timer.cancelled) {
+                continue;
+            }
+            timer.fired = now;
+            if (timer.interval > 0) {
+                timer.deadline = now + timer.interval;
+                place(timer);
+            }
+            timer.callback.tick(state, game);
+        }
+        due.clear();
+    }
+
+    /** Moves the timers of each coarser wheel whose slot has come round down to finer wheels. */
+    private void cascade() {
+        int level = 1;
+        while (level <= LEVELS && (now & ((1L << (SLOT_BITS * level)) - 1)) == 0) {
+            level++;
+        }
+        if (level > LEVELS) {
+            replace(overflow);
+        }
+        for (int wrapped = Math.min(level, LEVELS) - 1; wrapped >= 1; wrapped--) {
+            int index = (int) ((now >>> (SLOT_BITS * wrapped)) & SLOT_MASK);
+            replace(wheels.get(wrapped * SLOTS + index));
+        }
+    }
+
+    /** Places each live timer in a list again, relative to the current tick. */
+    private void replace(List<Timer> timers) {
+        if (timers.isEmpty()) {
+            return;
+        }
+        due.addAll(timers);
+        timers.clear();
+        for (int i = 0; i < due.size(); i++) {
+            if (!due.get(i).cancelled) {
+                place(due.get(i));
+            }
+        }
+        due.clear();
+    }
+
+    /** Puts a timer in the slot of the finest wheel that reaches its deadline. */
+    private void place(Timer timer) {
+        final long delta = timer.deadline - now;
+        for (int level = 0; level < LEVELS; level++) {
+            if (delta < 1L << (SLOT_BITS * (level + 1))) {
+                int index = (int) ((timer.deadline >>> (SLOT_BITS * level)) & SLOT_MASK);
+                wheels.get(level * SLOTS + index).add(timer);
+                return;
+            }
+        }
+        overflow.add(timer);
+    }
+
+    /**
+     * A timer on a {@link TimingWheel}. The timer is advanced by its wheel, so {@link #tick()}
+     * does nothing.
+     */
+    public final class Timer implements TickTimer {
+        private long deadline;
+        private final int interval;
+        private final long ordinal;
+        private final Tickable callback;
+        /** The tick the timer last fired on, or -1 if it has not fired. */
+        private long fired = -1;
+        private boolean cancelled = false;
+
+        private Timer(long deadline, int interval, long ordinal, Tickable callback) {
+            this.deadline = deadline;
+            this.interval = interval;
+            this.ordinal = ordinal;
+            this.callback = callback;
+        }
+
+        /**
+         * Stops the timer from firing again. A cancelled timer is dropped from its wheel the next
+         * time the wheel comes to it.
+         */
+        public void cancel() {
+            this.cancelled = true;
+        }
+
+        /**
+         * Returns whether the timer has fired: for a repeating timer, whether it fired on the
+         * current tick of its wheel, and for a timer that runs once, whether it has run.
+         *
+         * @return true if the timer has fired as above, false otherwise
+         */
+        @Override
+        public boolean isFinished() {
+            if (interval == 0) {
+                return fired >= 0;
+            }
+            return fired == now;
+        }
+
+        /** Does nothing, as the timer is advanced by its wheel. */
+        @Override
+        public void tick() {}
+    }
+}
@@ -1,5 +1,6 @@
 package builder.entities;
 
+import builder.ui.FrameAnimation;
 import builder.ui.SpriteGallery;
 
 import engine.EngineState;
@@ -21,23 +22,23 @@ import java.util.Random;
 public class Brutus extends Entity {
     private final SpriteGroup art = SpriteGallery.brutus;
     private final Animation leftWalking =
-            new Animation(
+            new FrameAnimation(
                     AnimationDuration.FAST,
                     new Sprite[] {
                         art.getSprite("left"), art.getSprite("left1"), art.getSprite("left2")
                     });
     private final Animation rightWalking =
-            new Animation(
+            new FrameAnimation(
                     AnimationDuration.FAST,
                     new Sprite[] {
                         art.getSprite("right"), art.getSprite("right1"), art.getSprite("right2")
                     });
     private final Animation upWalking =
-            new Animation(
+            new FrameAnimation(
                     AnimationDuration.SLOW,
                     new Sprite[] {art.getSprite("up"), art.getSprite("up1"), art.getSprite("up2")});
     private final Animation downWalking =
-            new Animation(
+            new FrameAnimation(
                     AnimationDuration.SLOW,
                     new Sprite[] {
                         art.getSprite("down"), art.getSprite("down1"), art.getSprite("down2")
@@ -0,0 +1,19 @@
+package builder.entities;
+
+/**
+ * An entity that may be progressed by something other than its own tick, and so at times have
+ * nothing to progress when it is ticked, e.g. a {@link builder.entities.resources.Cabbage} grown
+ * by the world it is planted in.
+ *
+ * <p>A tile with only such entities stacked on it need not be ticked (see {@link
+ * builder.entities.tiles.Tile#isActive()}).
+ */
+public interface Tended {
+
+    /**
+     * Whether the entity has anything to progress when it is ticked.
+     *
+     * @return true if the entity needs to be ticked, false otherwise.
+     */
+    boolean needsTicking();
+}
@@ -8,6 +8,7 @@ import engine.EngineState;
 import engine.art.sprites.SpriteGroup;
 import engine.timing.RepeatingTimer;
 
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -23,6 +24,8 @@ public class BeeHive extends Npc {
     private boolean loaded = true;
 
     private final RepeatingTimer timer = new RepeatingTimer(TIMER);
+    /** Reused each tick to hold the enemies near the hive. */
+    private final List<Enemy> nearbyEnemies = new ArrayList<>();
 
     /**
      * Creates a new beehive.
@@ -47,9 +50,11 @@ public class BeeHive extends Npc {
         super.interact(state, game);
 
         timer.tick();
-        Npc npc = this.checkAndSpawnBee(game.getEnemies().getAllEnemies());
-        if (npc != null) {
-            game.getNpcs().addNpc(npc);
+        nearbyEnemies.clear();
+        game.getEnemies().getEnemiesWithin(getX(), getY(), DETECTION_DISTANCE, nearbyEnemies);
+        Enemy target = this.findTarget(nearbyEnemies);
+        if (target != null) {
+            game.getNpcs().spawnGuardBee(this.getX(), this.getY(), target);
         }
         if (timer.isFinished()) {
             this.loaded = true;
@@ -63,10 +68,23 @@ public class BeeHive extends Npc {
      * @return a new GuardBee if spawned, null otherwise
      */
     public Npc checkAndSpawnBee(List<Enemy> targets) {
-        for (Enemy enemy : targets) {
+        Enemy target = this.findTarget(targets);
+        return target == null ? null : new GuardBee(this.getX(), this.getY(), target);
+    }
+
+    /**
+     * Finds the first enemy close enough to spawn a bee at, if the hive is loaded, and unloads
+     * the hive if there is one.
+     *
+     * @param targets list of potential enemy targets
+     * @return the enemy to spawn a bee at, or null if no bee should be spawned
+     */
+    private Enemy findTarget(List<Enemy> targets) {
+        for (int i = 0; i < targets.size(); i++) {
+            Enemy enemy = targets.get(i);
             if (this.distanceFrom(enemy) < DETECTION_DISTANCE && this.loaded) {
                 this.loaded = false;
-                return new GuardBee(this.getX(), this.getY(), enemy);
+                return enemy;
             }
         }
         return null;
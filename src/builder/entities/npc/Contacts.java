@@ -0,0 +1,115 @@
+package builder.entities.npc;
+
+import builder.entities.npc.enemies.Enemy;
+import builder.entities.npc.enemies.EnemyManager;
+
+import engine.game.HasPosition;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The guard bees and enemies in contact with each other, found once per tick after the NPCs have
+ * moved (see {@link NpcManager#tick(engine.EngineState, builder.GameState)}).
+ *
+ * <p>Each guard bee that is guarding (see {@link GuardBee#isGuarding()}) looks up the enemies
+ * near it in the enemy manager's position index, which culls all but the enemies in the cells
+ * around the bee, and then checks the squared distance to each of those. The contacts are kept as
+ * pairs, in the order of the bees and then of the enemies, for the bees to act on.
+ *
+ * <p>Two positions are in contact when the distance between them, rounded down to a whole number
+ * of pixels, is less than the contact range, exactly as {@link Npc#distanceFrom(HasPosition)}
+ * &lt; range, without taking a square root.
+ */
+public final class Contacts {
+
+    private final List<GuardBee> bees = new ArrayList<>();
+    private final List<Enemy> enemies = new ArrayList<>();
+    /** Reused for each bee to hold the enemies in contact with it. */
+    private final List<Enemy> touching = new ArrayList<>();
+
+    /**
+     * Creates an empty set of contacts.
+     */
+    public Contacts() {}
+
+    /**
+     * Returns whether two positions are within the given range of each other.
+     *
+     * @param from the first position
+     * @param to the second position
+     * @param range the exclusive maximum distance in pixels
+     * @return true if (int) the distance between the positions is less than the range
+     */
+    public static boolean inContact(HasPosition from, HasPosition to, int range) {
+        return inContact(from, to.getX(), to.getY(), range);
+    }
+
+    /**
+     * Returns whether a position is within the given range of a point.
+     *
+     * @param from the position
+     * @param x the x coordinate of the point
+     * @param y the y coordinate of the point
+     * @param range the exclusive maximum distance in pixels
+     * @return true if (int) the distance between the position and the point is less than the range
+     */
+    public static boolean inContact(HasPosition from, int x, int y, int range) {
+        long deltaX = (long) x - from.getX();
+        long deltaY = (long) y - from.getY();
+        return range > 0 && deltaX * deltaX + deltaY * deltaY < (long) range * range;
+    }
+
+    /**
+     * Replaces the contacts with the pairs of guarding bees and enemies in contact with each
+     * other. The enemy manager is only asked for enemies if any bee is guarding.
+     *
+     * @param npcs the NPCs, of which only the guard bees are checked
+     * @param enemyManager the manager of the enemies to check against
+     * @param range the exclusive maximum distance in pixels for a bee and an enemy to touch
+     */
+    public void detect(List<? extends Npc> npcs, EnemyManager enemyManager, int range) {
+        bees.clear();
+        enemies.clear();
+        for (int i = 0; i < npcs.size(); i++) {
+            if (npcs.get(i) instanceof GuardBee bee && bee.isGuarding()) {
+                touching.clear();
+                enemyManager.getEnemiesWithin(bee.getX(), bee.getY(), range, touching);
+                for (int j = 0; j < touching.size(); j++) {
+                    bees.add(bee);
+                    enemies.add(touching.get(j));
+                }
+            }
+        }
+        touching.clear();
+    }
+
+    /**
+     * Gets the number of contacts found by the last {@link #detect(List, EnemyManager, int)}.
+     *
+     * @return the number of bee and enemy pairs in contact
+     */
+    public int size() {
+        return bees.size();
+    }
+
+    /**
+     * Gets the bee of a contact.
+     *
+     * @param index the position of the contact
+     * @return the bee in contact with {@link #getEnemy(int)} at the same position
+     */
+    public GuardBee getBee(int index) {
+        return bees.get(index);
+    }
+
+    /**
+     * Gets the enemy of a contact.
+     *
+     * @param index the position of the contact
+     * @return the enemy in contact with {@link #getBee(int)} at the same position
+     */
+    public Enemy getEnemy(int index) {
+        return enemies.get(index);
+    }
+}
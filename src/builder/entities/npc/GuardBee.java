@@ -2,28 +2,32 @@ package builder.entities.npc;
 
 import builder.GameState;
 import builder.entities.npc.enemies.Enemy;
-import builder.ui.SpriteGallery;
+import builder.ui.SpriteHandles;
 
 import engine.EngineState;
-import engine.art.sprites.SpriteGroup;
 import engine.game.HasPosition;
 import engine.timing.FixedTimer;
 
+import java.util.ArrayList;
 import java.util.List;
 
 /**
  * A highly trained Guard Bee that protects the hive by attacking nearby enemies.
  * Guard bees track and eliminate threats, then return to their spawn point.
+ *
+ * <p>A bee stings the enemies it touches once every NPC has been ticked, when its manager finds
+ * the contacts between bees and enemies (see {@link Contacts}).
  */
 public class GuardBee extends Npc implements Expirable {
 
-    private final int spawnX;
-    private final int spawnY;
+    private int spawnX;
+    private int spawnY;
     private static final int SPEED = 2;
     private static final int LOCK_ON_DISTANCE = 300;
-    private static final SpriteGroup art = SpriteGallery.bee;
-    private FixedTimer lifespan = new FixedTimer(300);
-    private final HasPosition trackedTarget;
+    private FixedTimer lifespan;
+    private HasPosition trackedTarget;
+    /** Reused each tick to hold the enemies near the bee. */
+    private final List<Enemy> nearbyEnemies = new ArrayList<>();
 
     /**
      * Creates a new guard bee.
@@ -34,15 +38,32 @@ public class GuardBee extends Npc implements Expirable {
      */
     public GuardBee(int xcoordinate, int ycoordinate, HasPosition trackedTarget) {
         super(xcoordinate, ycoordinate);
-        this.setSprite(art.getSprite("default"));
+        this.init(xcoordinate, ycoordinate, trackedTarget);
+    }
+
+    /**
+     * Resets this bee to the state of a new guard bee, so that a bee taken from a {@link NpcPool}
+     * can be reused, see {@link #GuardBee(int, int, HasPosition)}.
+     *
+     * @param xcoordinate horizontal spawning position
+     * @param ycoordinate vertical spawning position
+     * @param trackedTarget target with a position we want this to track
+     */
+    public void recycle(int xcoordinate, int ycoordinate, HasPosition trackedTarget) {
+        this.resetNpc(xcoordinate, ycoordinate);
+        this.init(xcoordinate, ycoordinate, trackedTarget);
+    }
+
+    /** Sets up the state kept by a new guard bee, for both constructing and recycling. */
+    private void init(int xcoordinate, int ycoordinate, HasPosition trackedTarget) {
+        this.lifespan = new FixedTimer(300);
+        this.setSprite(SpriteHandles.BEE_DEFAULT);
         this.trackedTarget = trackedTarget;
 
         this.spawnX = xcoordinate;
         this.spawnY = ycoordinate;
 
-        double deltaX = trackedTarget.getX() - this.getX();
-        double deltaY = trackedTarget.getY() - this.getY();
-        this.setDirection((int) Math.toDegrees(Math.atan2(deltaY, deltaX)));
+        this.setDirection(Heading.towards(this, trackedTarget));
         this.setSpeed(SPEED);
     }
 
@@ -56,6 +77,26 @@ public class GuardBee extends Npc implements Expirable {
         this.lifespan = timer;
     }
 
+    /**
+     * Returns whether the bee is guarding, i.e. has a target, so that it stings any enemy it
+     * touches. A bee without a target only returns to its spawn.
+     *
+     * @return true if the bee is guarding, false otherwise
+     */
+    public boolean isGuarding() {
+        return this.trackedTarget != null;
+    }
+
+    /**
+     * Stings an enemy the bee is in contact with, removing both the enemy and the bee.
+     *
+     * @param enemy the enemy in contact with the bee
+     */
+    public void sting(Enemy enemy) {
+        enemy.markForRemoval();
+        this.markForRemoval();
+    }
+
     /**
      * Updates the bee's sprite based on its current direction.
      */
@@ -65,13 +106,13 @@ public class GuardBee extends Npc implements Expirable {
         boolean goingRight = (this.getDirection() >= 310 && this.getDirection() < 40);
 
         if (goingDown) {
-            this.setSprite(art.getSprite("down"));
+            this.setSprite(SpriteHandles.BEE_DOWN);
         } else if (goingUp) {
-            this.setSprite(art.getSprite("up"));
+            this.setSprite(SpriteHandles.BEE_UP);
         } else if (goingRight) {
-            this.setSprite(art.getSprite("right"));
+            this.setSprite(SpriteHandles.BEE_RIGHT);
         } else {
-            this.setSprite(art.getSprite("left"));
+            this.setSprite(SpriteHandles.BEE_LEFT);
         }
     }
 
@@ -82,9 +123,7 @@ public class GuardBee extends Npc implements Expirable {
 
         // If no target, return to spawn
         if (this.trackedTarget == null) {
-            double deltaX = this.spawnX - this.getX();
-            double deltaY = this.spawnY - this.getY();
-            this.setDirection((int) Math.toDegrees(Math.atan2(deltaY, deltaX)));
+            this.setDirection(Heading.towards(this, this.spawnX, this.spawnY));
             this.updateArtBasedOnDirection();
             lifespan.tick();
             if (lifespan.isFinished()) {
@@ -93,24 +132,13 @@ public class GuardBee extends Npc implements Expirable {
             return;
         }
 
-        // Lock onto closest enemy within range
-        List<Enemy> enemies = game.getEnemies().getAllEnemies();
-        for (Enemy enemy : enemies) {
-            if (this.distanceFrom(enemy) < LOCK_ON_DISTANCE) {
-                double deltaX = enemy.getX() - this.getX();
-                double deltaY = enemy.getY() - this.getY();
-                this.setDirection((int) Math.toDegrees(Math.atan2(deltaY, deltaX)));
-                break;
-            }
-        }
-
-        // Check collision with enemies
-        for (Enemy enemy : enemies) {
-            if (this.distanceFrom(enemy) < state.getDimensions().tileSize()) {
-                enemy.markForRemoval();
-                this.markForRemoval();
-            }
+        // Lock onto the first enemy within range
+        nearbyEnemies.clear();
+        game.getEnemies().getEnemiesWithin(getX(), getY(), LOCK_ON_DISTANCE, nearbyEnemies);
+        if (!nearbyEnemies.isEmpty()) {
+            this.setDirection(Heading.towards(this, nearbyEnemies.get(0)));
         }
+        nearbyEnemies.clear();
 
         this.updateArtBasedOnDirection();
         lifespan.tick();
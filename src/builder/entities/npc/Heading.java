@@ -0,0 +1,136 @@
+package builder.entities.npc;
+
+import engine.game.HasPosition;
+
+/**
+ * Direction maths for NPCs steering in whole degrees (see {@link Npc#getDirection()}).
+ *
+ * <p>The cosine and sine of each whole degree are looked up in a table rather than computed each
+ * tick, and headings are found without {@link Math#atan2(double, double)} in all but borderline
+ * cases. Every result is exactly what the equivalent {@link Math} expression would give, so
+ * steering through this class does not change where NPCs go.
+ */
+public final class Heading {
+
+    /** The smallest direction in the tables, so that headings from atan2 are covered. */
+    private static final int FIRST_DEGREE = -360;
+    /** The largest direction in the tables. */
+    private static final int LAST_DEGREE = 719;
+
+    /**
+     * The cosine and sine of every whole degree from {@value #FIRST_DEGREE} to {@value
+     * #LAST_DEGREE}, indexed by degree - {@value #FIRST_DEGREE}. Degrees outside of 0 to 359 are
+     * stored rather than wrapped, as e.g. Math.cos(Math.toRadians(-90)) and
+     * Math.cos(Math.toRadians(270)) are not the same double.
+     */
+    private static final double[] COS = new double[LAST_DEGREE - FIRST_DEGREE + 1];
+    private static final double[] SIN = new double[LAST_DEGREE - FIRST_DEGREE + 1];
+
+    /**
+     * How close, relative to the length of a vector, its cross product with a whole degree may be
+     * to zero before the heading is left to {@link Math#atan2(double, double)}. This is far
+     * larger than the rounding error of either calculation, so both always agree.
+     */
+    private static final double BORDERLINE = 1e-9;
+
+    static {
+        for (int degree = FIRST_DEGREE; degree <= LAST_DEGREE; degree++) {
+            COS[degree - FIRST_DEGREE] = Math.cos(Math.toRadians(degree));
+            SIN[degree - FIRST_DEGREE] = Math.sin(Math.toRadians(degree));
+        }
+    }
+
+    private Heading() {}
+
+    /**
+     * Returns the cosine of a direction, equal to Math.cos(Math.toRadians(degrees)).
+     *
+     * @param degrees the direction in degrees
+     * @return the cosine of the direction
+     */
+    public static double cos(int degrees) {
+        if (degrees < FIRST_DEGREE || degrees > LAST_DEGREE) {
+            return Math.cos(Math.toRadians(degrees));
+        }
+        return COS[degrees - FIRST_DEGREE];
+    }
+
+    /**
+     * Returns the sine of a direction, equal to Math.sin(Math.toRadians(degrees)).
+     *
+     * @param degrees the direction in degrees
+     * @return the sine of the direction
+     */
+    public static double sin(int degrees) {
+        if (degrees < FIRST_DEGREE || degrees > LAST_DEGREE) {
+            return Math.sin(Math.toRadians(degrees));
+        }
+        return SIN[degrees - FIRST_DEGREE];
+    }
+
+    /**
+     * Returns the direction of a vector in whole degrees, rounded towards zero, equal to (int)
+     * Math.toDegrees(Math.atan2(deltaY, deltaX)).
+     *
+     * @param deltaY the vertical component of the vector
+     * @param deltaX the horizontal component of the vector
+     * @return the direction of the vector, from -180 to 180 degrees
+     */
+    public static int degrees(double deltaY, double deltaX) {
+        final double height = Math.abs(deltaY);
+        final double length = height + Math.abs(deltaX);
+        if (!(length > 0) || Double.isInfinite(length)) {
+            return (int) Math.toDegrees(Math.atan2(deltaY, deltaX));
+        }
+        final double margin = length * BORDERLINE;
+
+        // find the largest whole degree at or below the angle of (deltaX, height), in 0 to 180,
+        // using that the cross product with a degree is positive until the angle is passed
+        int low = 0;
+        int high = 180;
+        while (low < high) {
+            final int middle = (low + high + 1) >>> 1;
+            if (cross(height, deltaX, middle) >= 0) {
+                low = middle;
+            } else {
+                high = middle - 1;
+            }
+        }
+        if (Math.abs(cross(height, deltaX, low)) < margin
+                || (low < 180 && Math.abs(cross(height, deltaX, low + 1)) < margin)) {
+            // the angle is (nearly) a whole degree, so only atan2 knows which way it rounds
+            return (int) Math.toDegrees(Math.atan2(deltaY, deltaX));
+        }
+        return deltaY < 0 ? -low : low;
+    }
+
+    /**
+     * Returns the direction from a position towards a point in whole degrees, as {@link
+     * #degrees(double, double)}.
+     *
+     * @param from the position to head from
+     * @param x the x coordinate to head towards
+     * @param y the y coordinate to head towards
+     * @return the direction towards the point, from -180 to 180 degrees
+     */
+    public static int towards(HasPosition from, int x, int y) {
+        return degrees(y - from.getY(), x - from.getX());
+    }
+
+    /**
+     * Returns the direction from a position towards another position in whole degrees, as
+     * {@link #degrees(double, double)}.
+     *
+     * @param from the position to head from
+     * @param to the position to head towards
+     * @return the direction towards the position, from -180 to 180 degrees
+     */
+    public static int towards(HasPosition from, HasPosition to) {
+        return towards(from, to.getX(), to.getY());
+    }
+
+    /** The cross product of the unit vector of a degree with the vector, |v| sin(angle - degree). */
+    private static double cross(double deltaY, double deltaX, int degree) {
+        return deltaY * COS[degree - FIRST_DEGREE] - deltaX * SIN[degree - FIRST_DEGREE];
+    }
+}
@@ -0,0 +1,63 @@
+package builder.entities.npc;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Makes the move every NPC makes at the start of its tick (see {@link Npc#tick(
+ * engine.EngineState)}) for a list of NPCs in one pass.
+ *
+ * <p>The positions, directions and speeds of the NPCs are copied into primitive arrays, advanced
+ * together in one loop, and written back. Each NPC then skips its own move the next time it is
+ * ticked, so it ends up where {@link Npc#move()} would have put it, rounded the same way. The
+ * arrays are kept between passes, so a batch should be reused from tick to tick.
+ *
+ * <p>A batch should only be used when nothing reads the position of one NPC in the list while
+ * another NPC in the list is ticked, as every NPC has moved before any is ticked.
+ */
+public final class MovementBatch {
+
+    private int[] xs = new int[16];
+    private int[] ys = new int[16];
+    private int[] directions = new int[16];
+    private double[] speeds = new double[16];
+
+    /**
+     * Creates an empty movement batch.
+     */
+    public MovementBatch() {}
+
+    /**
+     * Moves each of the NPCs as {@link Npc#move()} would, and marks each NPC so that its next tick
+     * does not move it again.
+     *
+     * @param npcs the NPCs to move, all of which must be ticked afterwards
+     */
+    public void advance(List<? extends Npc> npcs) {
+        final int count = npcs.size();
+        if (count > xs.length) {
+            int capacity = Math.max(count, xs.length * 2);
+            xs = Arrays.copyOf(xs, capacity);
+            ys = Arrays.copyOf(ys, capacity);
+            directions = Arrays.copyOf(directions, capacity);
+            speeds = Arrays.copyOf(speeds, capacity);
+        }
+        for (int i = 0; i < count; i++) {
+            Npc npc = npcs.get(i);
+            xs[i] = npc.getX();
+            ys[i] = npc.getY();
+            directions[i] = npc.getDirection();
+            speeds[i] = npc.getSpeed();
+        }
+        for (int i = 0; i < count; i++) {
+            xs[i] += (int) Math.round(Heading.cos(directions[i]) * speeds[i]);
+            ys[i] += (int) Math.round(Heading.sin(directions[i]) * speeds[i]);
+        }
+        for (int i = 0; i < count; i++) {
+            Npc npc = npcs.get(i);
+            npc.setX(xs[i]);
+            npc.setY(ys[i]);
+            npc.markMoved();
+        }
+    }
+}
@@ -17,6 +17,15 @@ public class Npc extends Entity implements Interactable, Tickable, Directable {
 
     private int direction = 0;
     private double speed = 1;
+    /** Whether a {@link MovementBatch} has already made this NPC's move for its next tick. */
+    private boolean moved = false;
+    /**
+     * Whether this NPC is marked for removal, kept in place of Entity's flag, which cannot be
+     * cleared, so that a pooled NPC can be reused (see {@link NpcPool}). Entity's flag is never
+     * set for an NPC.
+     */
+    private boolean removed = false;
+    private NpcListener listener;
 
     /**
      * Creates a new NPC at the specified coordinates.
@@ -69,12 +78,83 @@ public class Npc extends Entity implements Interactable, Tickable, Directable {
      * Adjusts the X and Y coordinates accordingly.
      */
     public void move() {
-        final int deltaX = (int) Math.round(Math.cos(Math.toRadians(this.direction)) * this.speed);
-        final int deltaY = (int) Math.round(Math.sin(Math.toRadians(this.direction)) * this.speed);
+        final int deltaX = (int) Math.round(Heading.cos(this.direction) * this.speed);
+        final int deltaY = (int) Math.round(Heading.sin(this.direction) * this.speed);
         this.setX(this.getX() + deltaX);
         this.setY(this.getY() + deltaY);
     }
 
+    @Override
+    public final boolean isMarkedForRemoval() {
+        return this.removed;
+    }
+
+    /**
+     * Marks this NPC for removal, notifying the NPC's listener the first time.
+     */
+    @Override
+    public final void markForRemoval() {
+        if (!this.removed) {
+            this.removed = true;
+            if (this.listener != null) {
+                this.listener.markedForRemoval(this);
+            }
+        }
+    }
+
+    /**
+     * Set the listener to notify of changes to this NPC, replacing any previous listener.
+     *
+     * @param listener The listener to notify, or null to stop notifying.
+     */
+    public void setListener(NpcListener listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * Returns the listener notified of changes to this NPC.
+     *
+     * @return The NPC's listener, or null if there is none.
+     */
+    public NpcListener getListener() {
+        return this.listener;
+    }
+
+    /**
+     * Resets the state kept by this class to that of a new NPC at the given position, so that an
+     * NPC taken from a {@link NpcPool} can be reused. Subclasses reset the state they keep.
+     *
+     * @param x the new X coordinate
+     * @param y the new Y coordinate
+     */
+    protected void resetNpc(int x, int y) {
+        this.setX(x);
+        this.setY(y);
+        this.direction = 0;
+        this.speed = 1;
+        this.moved = false;
+        this.removed = false;
+    }
+
+    /**
+     * Marks this NPC as already moved by a {@link MovementBatch}, so that its next tick does not
+     * move it again.
+     */
+    void markMoved() {
+        this.moved = true;
+    }
+
+    /**
+     * Moves the NPC for the current tick, unless a {@link MovementBatch} already has.
+     */
+    private void tickMove() {
+        if (this.moved) {
+            this.moved = false;
+        } else {
+            this.move();
+        }
+    }
+
     /**
      * Updates the NPC state for the current game tick.
      * Moves the NPC based on its direction and speed.
@@ -83,7 +163,7 @@ public class Npc extends Entity implements Interactable, Tickable, Directable {
      */
     @Override
     public void tick(EngineState state) {
-        this.move();
+        this.tickMove();
     }
 
     /**
@@ -95,7 +175,7 @@ public class Npc extends Entity implements Interactable, Tickable, Directable {
      */
     @Override
     public void tick(EngineState state, GameState game) {
-        this.move();
+        this.tickMove();
     }
 
     /**
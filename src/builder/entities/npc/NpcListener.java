@@ -0,0 +1,18 @@
+package builder.entities.npc;
+
+/**
+ * Receives notifications about changes to an {@link Npc}. An NPC has at most one listener,
+ * usually given to it by the manager it has been added to (see {@link RemovalQueue}), which uses
+ * these notifications to queue the NPCs marked for removal for the next cleanup.
+ *
+ * <p>All notifications default to doing nothing.
+ */
+public interface NpcListener {
+
+    /**
+     * Called when the NPC is first marked for removal via {@link Npc#markForRemoval()}.
+     *
+     * @param npc The NPC that was marked for removal.
+     */
+    default void markedForRemoval(Npc npc) {}
+}
@@ -6,6 +6,7 @@ import builder.entities.Interactable;
 import builder.ui.RenderableGroup;
 
 import engine.EngineState;
+import engine.game.HasPosition;
 import engine.renderer.Renderable;
 
 import java.util.ArrayList;
@@ -14,21 +15,99 @@ import java.util.List;
 /**
  * Manages all NPCs in the game.
  * Responsible for tracking, updating, and cleaning up NPCs.
+ *
+ * <p>NPCs are indexed by position (see {@link SpatialHash}) so that range checks such as {@link
+ * #getNpcsWithin(int, int, int)} only measure the distance to nearby NPCs. The index is rebuilt
+ * on the first query after NPCs have moved, been added or been cleaned up.
+ *
+ * <p>The manager tracks each NPC added to it in a {@link RemovalQueue}, which queues the NPC when
+ * it is marked for removal, so {@link #cleanup()} only visits the NPCs being removed and keeps the
+ * rest in order. NPCs added straight to {@link #getNpcs()} are not tracked, so the first cleanup
+ * after that checks every NPC once.
+ *
+ * <p>With pooling on (see {@link #setPooling(boolean)}), guard bees that are cleaned up are kept
+ * and reused for the next guard bees to spawn (see {@link #spawnGuardBee(int, int, HasPosition)}).
  */
 public class NpcManager implements Interactable, Tickable, RenderableGroup {
 
+    /** The width and height in pixels of each cell of the NPC position index. */
+    private static final int NEARBY_CELL_SIZE = 128;
+    /** The most cleaned up guard bees to keep for reuse. */
+    private static final int POOL_CAPACITY = 256;
+
     private final ArrayList<Npc> npcs = new ArrayList<>();
+    private final SpatialHash<Npc> nearby = new SpatialHash<>(NEARBY_CELL_SIZE);
+    private boolean nearbyStale = true;
+    private final MovementBatch movement = new MovementBatch();
+    private final Contacts contacts = new Contacts();
+    private final NpcPool spares = new NpcPool(POOL_CAPACITY);
+    /** The NPCs marked for removal since the last cleanup. */
+    private final RemovalQueue removals = new RemovalQueue();
+    /** Whether NPCs may have been added through {@link #getNpcs()} without being tracked. */
+    private boolean unlistened = false;
 
     /**
      * Creates a new NPC manager.
      */
-    public NpcManager() {}
+    public NpcManager() {
+        this.spares.keep(GuardBee.class);
+    }
 
     /**
      * Removes all NPCs marked for removal from the active NPC list.
      */
     public void cleanup() {
-        npcs.removeIf(Npc::isMarkedForRemoval);
+        if (unlistened) {
+            // NPCs added straight to the list were never tracked, so check every NPC once
+            npcs.removeIf(spares::release);
+            removals.retrack(npcs);
+            unlistened = false;
+            nearbyStale = true;
+            return;
+        }
+        if (removals.isEmpty()) {
+            return;
+        }
+        removals.removeFrom(npcs);
+        for (int i = 0; i < removals.size(); i++) {
+            spares.release(removals.get(i));
+        }
+        removals.clear();
+        nearbyStale = true;
+    }
+
+    /**
+     * Sets whether guard bees that are cleaned up are reused for the next guard bees to spawn.
+     * Pooling is off by default.
+     *
+     * <p>A reused bee behaves exactly as a new bee would, but keeps the {@link
+     * engine.game.Entity#getID() ID} it had before, and anything still holding the bee from
+     * before it was cleaned up now holds the new bee. Pooling should therefore only be turned on
+     * when nothing tells NPCs apart by ID or keeps hold of NPCs once they are removed.
+     *
+     * @param pooling true to reuse guard bees, false to always spawn new guard bees
+     */
+    public void setPooling(boolean pooling) {
+        this.spares.setEnabled(pooling);
+    }
+
+    /**
+     * Creates and adds a guard bee to the game, reusing a cleaned up bee if pooling is on.
+     *
+     * @param x the x coordinate to spawn the bee at
+     * @param y the y coordinate to spawn the bee at
+     * @param target the target for the bee to track
+     * @return the spawned guard bee
+     */
+    public GuardBee spawnGuardBee(int x, int y, HasPosition target) {
+        GuardBee bee = this.spares.take(GuardBee.class);
+        if (bee == null) {
+            bee = new GuardBee(x, y, target);
+        } else {
+            bee.recycle(x, y, target);
+        }
+        this.addNpc(bee);
+        return bee;
     }
 
     /**
@@ -38,6 +117,8 @@ public class NpcManager implements Interactable, Tickable, RenderableGroup {
      */
     public void addNpc(Npc npc) {
         this.npcs.add(npc);
+        this.removals.track(npc);
+        this.nearbyStale = true;
     }
 
     /**
@@ -50,6 +131,15 @@ public class NpcManager implements Interactable, Tickable, RenderableGroup {
         return new ArrayList<>(this.npcs);
     }
 
+    /**
+     * Gets the number of active NPCs.
+     *
+     * @return the number of active NPCs
+     */
+    public int getNpcCount() {
+        return this.npcs.size();
+    }
+
     /**
      * Gets the internal NPC list.
      * This method is provided for backward compatibility with existing code
@@ -61,41 +151,79 @@ public class NpcManager implements Interactable, Tickable, RenderableGroup {
      * @return the internal list of NPCs
      */
     public ArrayList<Npc> getNpcs() {
+        // the caller may add to the list
+        this.nearbyStale = true;
+        this.unlistened = true;
         return this.npcs;
     }
 
+    /**
+     * Gets the active NPCs whose distance from the given position is less than the given
+     * distance, as measured by {@link Npc#distanceFrom(int, int)}.
+     *
+     * @param x the x coordinate of the position
+     * @param y the y coordinate of the position
+     * @param distance the exclusive maximum distance in pixels
+     * @return the NPCs within the distance, in the same order as {@link #getAllNpcs()}
+     */
+    public List<Npc> getNpcsWithin(int x, int y, int distance) {
+        List<Npc> result = new ArrayList<>();
+        getNpcsWithin(x, y, distance, result);
+        return result;
+    }
+
+    /**
+     * Appends the active NPCs within the given distance of a position to a list, as {@link
+     * #getNpcsWithin(int, int, int)}. Callers that query every tick should reuse the list, so
+     * that the query does not allocate.
+     *
+     * @param x the x coordinate of the position
+     * @param y the y coordinate of the position
+     * @param distance the exclusive maximum distance in pixels
+     * @param result the list to append the NPCs to
+     */
+    public void getNpcsWithin(int x, int y, int distance, List<? super Npc> result) {
+        if (nearbyStale) {
+            nearby.rebuild(npcs);
+            nearbyStale = false;
+        }
+        nearby.within(x, y, distance, result);
+    }
+
     @Override
     public void tick(EngineState state, GameState game) {
         this.cleanup();
+        this.movement.advance(npcs);
         for (Npc npc : npcs) {
             npc.tick(state, game);
         }
+        // enemies do not move while NPCs are ticked, so the bees touch what they touched in
+        // their own ticks
+        this.contacts.detect(npcs, game.getEnemies(), state.getDimensions().tileSize());
+        for (int i = 0; i < this.contacts.size(); i++) {
+            this.contacts.getBee(i).sting(this.contacts.getEnemy(i));
+        }
+        this.nearbyStale = true;
     }
 
     @Override
     public void interact(EngineState state, GameState game) {
-        for (Interactable interactable : this.getInteractables()) {
-            interactable.interact(state, game);
+        // NPCs added while interacting (e.g. bees from a hive) first interact next tick
+        final int count = this.npcs.size();
+        for (int i = 0; i < count; i++) {
+            this.npcs.get(i).interact(state, game);
         }
     }
 
-    /**
-     * Gets all NPCs that implement Interactable.
-     *
-     * @return a list of interactable NPCs
-     */
-    private List<Interactable> getInteractables() {
-        final ArrayList<Interactable> interactables = new ArrayList<>();
-        for (Npc npc : npcs) {
-            if (npc instanceof Interactable) {
-                interactables.add(npc);
-            }
-        }
-        return interactables;
-    }
-
     @Override
     public List<Renderable> render() {
         return new ArrayList<>(this.npcs);
     }
+
+    @Override
+    public void renderInto(List<Renderable> renderables) {
+        for (int i = 0; i < this.npcs.size(); i++) {
+            renderables.add(this.npcs.get(i));
+        }
+    }
 }
\ No newline at end of file
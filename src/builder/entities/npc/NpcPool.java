@@ -0,0 +1,90 @@
+package builder.entities.npc;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Spare NPCs kept for reuse by a manager, so that short-lived NPCs such as birds and bees do not
+ * have to be allocated afresh each time one spawns. Spares are kept for each type the pool has
+ * been told to {@link #keep(Class) keep}, and only while pooling is {@link #setEnabled(boolean)
+ * enabled}.
+ *
+ * <p>An NPC is given to the pool as its manager cleans it up (see {@link #release(Npc)}), after
+ * which nothing may use it again. An NPC taken from the pool must be reset before use (e.g. {@link
+ * GuardBee#recycle(int, int, engine.game.HasPosition)}), after which it behaves as a new NPC
+ * would, apart from keeping its {@link engine.game.Entity#getID() ID}.
+ */
+public final class NpcPool {
+
+    private final int capacity;
+    /** The spare NPCs of each type kept, by exact class. */
+    private final Map<Class<?>, List<Npc>> spares = new HashMap<>();
+    private boolean enabled = false;
+
+    /**
+     * Creates an empty pool that keeps no types.
+     *
+     * @param capacity the most spare NPCs to keep of each type, beyond which released NPCs are
+     *     dropped
+     */
+    public NpcPool(int capacity) {
+        this.capacity = capacity;
+    }
+
+    /**
+     * Keeps spares of the given type from now on. Subclasses of the type are not kept.
+     *
+     * @param type the type of NPC to keep
+     */
+    public void keep(Class<? extends Npc> type) {
+        spares.putIfAbsent(type, new ArrayList<>());
+    }
+
+    /**
+     * Sets whether released NPCs are kept and spares are handed out. Pooling is off by default.
+     *
+     * @param enabled true to reuse NPCs, false to always spawn new NPCs
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Takes a spare NPC of the given type from the pool.
+     *
+     * @param type the type of NPC to take
+     * @param <T> the type of NPC
+     * @return a spare NPC that must be reset before use, or null if pooling is off or there is no
+     *     spare of that type
+     */
+    public <T extends Npc> T take(Class<T> type) {
+        List<Npc> spare = spares.get(type);
+        if (!enabled || spare == null || spare.isEmpty()) {
+            return null;
+        }
+        return type.cast(spare.remove(spare.size() - 1));
+    }
+
+    /**
+     * Returns whether an active NPC is marked for removal, keeping it as a spare if so, pooling is
+     * on, its type is kept and the pool for its type is not full. Managers clean up with this,
+     * e.g. {@code npcs.removeIf(pool::release)}.
+     *
+     * @param npc an active NPC
+     * @return true if the NPC should be removed, false otherwise
+     */
+    public boolean release(Npc npc) {
+        if (!npc.isMarkedForRemoval()) {
+            return false;
+        }
+        if (enabled) {
+            List<Npc> spare = spares.get(npc.getClass());
+            if (spare != null && spare.size() < capacity) {
+                spare.add(npc);
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,156 @@
+package builder.entities.npc;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * The NPCs of one manager that have been marked for removal since its last cleanup, queued as
+ * they are marked, so that cleaning up visits the NPCs being removed rather than every active NPC.
+ *
+ * <p>The manager {@link #track(Npc) tracks} each NPC as it appends the NPC to its list of active
+ * NPCs. Tracking gives the NPC a listener of its own (see {@link NpcListener}), numbered in the
+ * order the NPCs were tracked, which queues the NPC when it is marked for removal. The manager's
+ * list, and any list the manager keeps in the same order, is therefore sorted by that number, so
+ * {@link #removeFrom(List)} finds each queued NPC by binary search and removes it, keeping the
+ * rest of the list in order.
+ */
+public final class RemovalQueue {
+
+    private static final Comparator<Ticket> TRACKED_ORDER =
+            Comparator.comparingLong(ticket -> ticket.order);
+
+    private final List<Ticket> queued = new ArrayList<>();
+    private long tracked = 0;
+
+    /**
+     * Creates an empty queue that tracks no NPCs.
+     */
+    public RemovalQueue() {}
+
+    /**
+     * Tracks an NPC that is being appended to the manager's list, replacing any previous listener
+     * of the NPC. An NPC that is already marked for removal is queued straight away.
+     *
+     * @param npc the NPC to track
+     */
+    public void track(Npc npc) {
+        Ticket ticket;
+        if (npc.getListener() instanceof Ticket previous && previous.belongsTo(this)) {
+            ticket = previous; // e.g. a pooled NPC being reused
+        } else {
+            ticket = new Ticket(npc);
+            npc.setListener(ticket);
+        }
+        ticket.order = tracked++;
+        if (npc.isMarkedForRemoval()) {
+            queued.add(ticket);
+        }
+    }
+
+    /**
+     * Tracks every NPC of a list again, in list order, after the list has been changed other than
+     * by appending tracked NPCs, e.g. by adding NPCs straight to it. The queue is emptied, so any
+     * NPC of the list already marked for removal must have been removed from it first.
+     *
+     * @param npcs the manager's list of active NPCs
+     */
+    public void retrack(List<? extends Npc> npcs) {
+        queued.clear();
+        for (int i = 0; i < npcs.size(); i++) {
+            track(npcs.get(i));
+        }
+    }
+
+    /**
+     * Returns whether no NPC has been queued since the queue was last cleared.
+     *
+     * @return true if there is nothing to clean up, false otherwise
+     */
+    public boolean isEmpty() {
+        return queued.isEmpty();
+    }
+
+    /**
+     * Gets the number of queued NPCs.
+     *
+     * @return the number of NPCs marked for removal since the queue was last cleared
+     */
+    public int size() {
+        return queued.size();
+    }
+
+    /**
+     * Gets a queued NPC. Once {@link #removeFrom(List)} has been called, the queued NPCs are in
+     * the order they were tracked, i.e. the order they were in the manager's list.
+     *
+     * @param index the index of the NPC in the queue
+     * @return the queued NPC
+     */
+    public Npc get(int index) {
+        return queued.get(index).npc;
+    }
+
+    /**
+     * Removes the queued NPCs from the given list, keeping the rest of the list in order.
+     *
+     * <p>The list must only hold NPCs tracked by this queue, in the order they were tracked, e.g.
+     * the manager's active NPCs or those of one type. Queued NPCs that are not in the list are
+     * skipped.
+     *
+     * @param npcs the list to remove the queued NPCs from
+     */
+    public void removeFrom(List<? extends Npc> npcs) {
+        if (queued.size() > 1) {
+            queued.sort(TRACKED_ORDER);
+        }
+        for (int i = queued.size() - 1; i >= 0; i--) {
+            int index = indexOf(npcs, queued.get(i));
+            if (index >= 0) {
+                npcs.remove(index);
+            }
+        }
+    }
+
+    /** Empties the queue, once the queued NPCs have been removed from every list. */
+    public void clear() {
+        queued.clear();
+    }
+
+    /** Returns the index of the ticket's NPC in a list sorted by tracked order, or -1. */
+    private static int indexOf(List<? extends Npc> npcs, Ticket ticket) {
+        int low = 0;
+        int high = npcs.size() - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            long order = ((Ticket) npcs.get(middle).getListener()).order;
+            if (order < ticket.order) {
+                low = middle + 1;
+            } else if (order > ticket.order) {
+                high = middle - 1;
+            } else {
+                return npcs.get(middle) == ticket.npc ? middle : -1;
+            }
+        }
+        return -1;
+    }
+
+    /** The listener of a tracked NPC, numbered in the order the NPCs were tracked. */
+    private final class Ticket implements NpcListener {
+        private final Npc npc;
+        private long order;
+
+        private Ticket(Npc npc) {
+            this.npc = npc;
+        }
+
+        @Override
+        public void markedForRemoval(Npc npc) {
+            queued.add(this);
+        }
+
+        private boolean belongsTo(RemovalQueue queue) {
+            return RemovalQueue.this == queue;
+        }
+    }
+}
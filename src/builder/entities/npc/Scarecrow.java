@@ -2,13 +2,12 @@ package builder.entities.npc;
 
 import builder.GameState;
 import builder.entities.npc.enemies.Enemy;
-import builder.entities.npc.enemies.Magpie;
-import builder.entities.npc.enemies.Pigeon;
 import builder.ui.SpriteGallery;
 
 import engine.EngineState;
 import engine.art.sprites.SpriteGroup;
 
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -20,6 +19,8 @@ public class Scarecrow extends Npc {
     public static final int COIN_COST = 2;
     private static final int SCARE_RADIUS_MULTIPLIER = 4;
     private static final SpriteGroup art = SpriteGallery.scarecrow;
+    /** Reused each tick to hold the enemies near the scarecrow. */
+    private final List<Enemy> nearbyEnemies = new ArrayList<>();
 
     /**
      * Creates a new scarecrow at the given position.
@@ -43,15 +44,13 @@ public class Scarecrow extends Npc {
         super.interact(state, game);
 
         final int scareRadius = state.getDimensions().tileSize() * SCARE_RADIUS_MULTIPLIER;
-        List<Enemy> enemies = game.getEnemies().getAllEnemies();
+        nearbyEnemies.clear();
+        game.getEnemies().getEnemiesWithin(getX(), getY(), scareRadius, nearbyEnemies);
 
-        for (Enemy enemy : enemies) {
+        for (int i = 0; i < nearbyEnemies.size(); i++) {
+            Enemy enemy = nearbyEnemies.get(i);
             if (this.distanceFrom(enemy) < scareRadius) {
-                if (enemy instanceof Magpie magpie) {
-                    magpie.setAttacking(false);
-                } else if (enemy instanceof Pigeon pigeon) {
-                    pigeon.setAttacking(false);
-                }
+                enemy.scare();
             }
         }
     }
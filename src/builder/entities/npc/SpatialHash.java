@@ -0,0 +1,153 @@
+package builder.entities.npc;
+
+import engine.game.HasPosition;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A uniform grid over the positions of a list of entities, used to find the entities near a
+ * position without measuring the distance to every entity.
+ *
+ * <p>Entities are bucketed by the square cell their position falls in when the hash is {@link
+ * #rebuild(List) rebuilt}. Entities that move afterwards stay in their old bucket until the next
+ * rebuild, so the owner of the hash rebuilds it whenever its entities have moved, been added or
+ * been removed (see {@link NpcManager} and {@link builder.entities.npc.enemies.EnemyManager}).
+ *
+ * @param <T> The type of entity in the hash.
+ */
+public final class SpatialHash<T extends HasPosition> {
+
+    private final int cellSize;
+    private final List<T> entities = new ArrayList<>();
+    private final Map<Long, Bucket> buckets = new HashMap<>();
+    private int[] found = new int[16];
+
+    /**
+     * Creates an empty spatial hash.
+     *
+     * @param cellSize the width and height of each cell in pixels
+     * @requires cellSize > 0
+     */
+    public SpatialHash(int cellSize) {
+        this.cellSize = cellSize;
+    }
+
+    /**
+     * Replaces the entities in the hash, bucketing each entity by its current position.
+     *
+     * @param entities the entities to index, in the order queries should return them
+     */
+    public void rebuild(List<? extends T> entities) {
+        this.entities.clear();
+        this.entities.addAll(entities);
+        if (buckets.size() > 2 * entities.size() + 16) {
+            buckets.clear();
+        } else {
+            for (Bucket bucket : buckets.values()) {
+                bucket.size = 0;
+            }
+        }
+        for (int i = 0; i < this.entities.size(); i++) {
+            T entity = this.entities.get(i);
+            int column = Math.floorDiv(entity.getX(), cellSize);
+            int row = Math.floorDiv(entity.getY(), cellSize);
+            buckets.computeIfAbsent(key(column, row), k -> new Bucket()).add(i);
+        }
+    }
+
+    /**
+     * Gets the entities whose distance from the given position, rounded down to a whole number of
+     * pixels, is less than the radius (see {@link Npc#distanceFrom(int, int)}).
+     *
+     * @param x the x coordinate of the position
+     * @param y the y coordinate of the position
+     * @param radius the exclusive maximum distance in pixels
+     * @return the entities within the radius, in the order they were given to {@link
+     *     #rebuild(List)}
+     */
+    public List<T> within(int x, int y, int radius) {
+        List<T> result = new ArrayList<>();
+        within(x, y, radius, result);
+        return result;
+    }
+
+    /**
+     * Appends the entities within the radius of the given position to a list, as {@link
+     * #within(int, int, int)}, without allocating once the hash has been queried a few times.
+     *
+     * @param x the x coordinate of the position
+     * @param y the y coordinate of the position
+     * @param radius the exclusive maximum distance in pixels
+     * @param result the list to append the entities within the radius to
+     */
+    public void within(int x, int y, int radius, List<? super T> result) {
+        if (radius <= 0) {
+            return;
+        }
+        long firstColumn = Math.floorDiv((long) x - radius, cellSize);
+        long lastColumn = Math.floorDiv((long) x + radius, cellSize);
+        long firstRow = Math.floorDiv((long) y - radius, cellSize);
+        long lastRow = Math.floorDiv((long) y + radius, cellSize);
+        long cellCount = (lastColumn - firstColumn + 1) * (lastRow - firstRow + 1);
+        if (cellCount > buckets.size()) {
+            // scanning every entity is cheaper than looking up every cell
+            for (int i = 0; i < entities.size(); i++) {
+                if (isWithin(entities.get(i), x, y, radius)) {
+                    result.add(entities.get(i));
+                }
+            }
+            return;
+        }
+
+        int count = 0;
+        for (long column = firstColumn; column <= lastColumn; column++) {
+            for (long row = firstRow; row <= lastRow; row++) {
+                Bucket bucket = buckets.get(key((int) column, (int) row));
+                if (bucket == null) {
+                    continue;
+                }
+                for (int i = 0; i < bucket.size; i++) {
+                    int index = bucket.indices[i];
+                    if (isWithin(entities.get(index), x, y, radius)) {
+                        if (count == found.length) {
+                            found = Arrays.copyOf(found, count * 2);
+                        }
+                        found[count++] = index;
+                    }
+                }
+            }
+        }
+        Arrays.sort(found, 0, count);
+        for (int i = 0; i < count; i++) {
+            result.add(entities.get(found[i]));
+        }
+    }
+
+    /** Whether (int) sqrt(distance squared) < radius, i.e. distance squared < radius squared. */
+    private static boolean isWithin(HasPosition entity, int x, int y, int radius) {
+        long deltaX = entity.getX() - x;
+        long deltaY = entity.getY() - y;
+        return deltaX * deltaX + deltaY * deltaY < (long) radius * radius;
+    }
+
+    private static long key(int column, int row) {
+        return ((long) column << 32) | (row & 0xFFFFFFFFL);
+    }
+
+    /** The indices of the entities in one cell, in ascending order. */
+    private static final class Bucket {
+        private int[] indices = new int[4];
+        private int size = 0;
+
+        private void add(int index) {
+            if (size == indices.length) {
+                indices = Arrays.copyOf(indices, size * 2);
+            }
+            indices[size++] = index;
+        }
+    }
+}
@@ -1,11 +1,12 @@
 package builder.entities.npc.enemies;
 
 import builder.GameState;
+import builder.entities.npc.Contacts;
 import builder.entities.npc.Expirable;
-import builder.ui.SpriteGallery;
+import builder.entities.npc.Heading;
+import builder.ui.SpriteHandles;
 
 import engine.EngineState;
-import engine.art.sprites.SpriteGroup;
 import engine.game.HasPosition;
 import engine.timing.FixedTimer;
 
@@ -16,13 +17,14 @@ import engine.timing.FixedTimer;
  */
 public class Eagle extends Enemy implements Expirable {
 
-    private static final SpriteGroup art = SpriteGallery.eagle;
-    private FixedTimer lifespan = new FixedTimer(5000);
+    private FixedTimer lifespan;
     private HasPosition trackedTarget;
-    private boolean attacking = true;
-    private int spawnX = 0;
-    private int spawnY = 0;
-    private int food = 0;
+    private boolean attacking;
+    private int spawnX;
+    private int spawnY;
+    private int food;
+    /** Whether the eagle took food from the player in its last plan. */
+    private boolean tookFood;
 
     /**
      * Creates a new Eagle at the specified position that tracks the given target.
@@ -33,26 +35,34 @@ public class Eagle extends Enemy implements Expirable {
      */
     public Eagle(int x, int y, HasPosition trackedTarget) {
         super(x, y);
+        this.init(x, y, trackedTarget);
+    }
+
+    /**
+     * Resets this eagle to the state of a new eagle, so that an eagle taken from a {@link
+     * builder.entities.npc.NpcPool} can be reused, see {@link #Eagle(int, int, HasPosition)}.
+     *
+     * @param x the initial X coordinate
+     * @param y the initial Y coordinate
+     * @param trackedTarget the target entity to track and attack
+     */
+    public void recycle(int x, int y, HasPosition trackedTarget) {
+        this.resetNpc(x, y);
+        this.init(x, y, trackedTarget);
+    }
+
+    /** Sets up the state kept by a new eagle, for both constructing and recycling. */
+    private void init(int x, int y, HasPosition trackedTarget) {
+        this.lifespan = new FixedTimer(5000);
+        this.attacking = true;
+        this.food = 0;
+        this.tookFood = false;
         this.spawnX = x;
         this.spawnY = y;
-
-        // derive direction based on where the eagle is and the initial target is
-        int direction = 20;
-        this.setDirection(direction);
         this.setSpeed(2);
         this.trackedTarget = trackedTarget;
-
-        this.setSprite(art.getSprite("default"));
-
-        if (attacking) {
-            double deltaX = trackedTarget.getX() - this.getX();
-            double deltaY = trackedTarget.getY() - this.getY();
-            this.setDirection((int) Math.toDegrees(Math.atan2(deltaY, deltaX)));
-        } else {
-            double deltaX = trackedTarget.getX() - this.getX();
-            double deltaY = trackedTarget.getY() - this.getY();
-            this.setDirection((int) Math.toDegrees(Math.atan2(deltaY, deltaX)));
-        }
+        this.setSprite(SpriteHandles.EAGLE_DEFAULT);
+        this.setDirection(Heading.towards(this, trackedTarget));
     }
 
     /**
@@ -84,50 +94,52 @@ public class Eagle extends Enemy implements Expirable {
     }
 
     @Override
-    public void tick(EngineState engine, GameState game) {
-        super.tick(engine);
+    public void plan(EngineState engine, GameState game) {
+        super.plan(engine, game);
         this.lifespan.tick();
         if (this.lifespan.isFinished()) {
-            this.markForRemoval();
+            this.planToLeave();
         }
-        if ((this.distanceFrom(game.getPlayer().getX(), game.getPlayer().getY())
-                < engine.getDimensions().tileSize())
-                && this.attacking) {
+        final int tileSize = engine.getDimensions().tileSize();
+        if (Contacts.inContact(this, game.getPlayer(), tileSize) && this.attacking) {
             this.attacking = false;
             //      if (game.getInventory().getFood() > 0) {
             if (this.food == 0) {
-                game.getInventory().addFood(-3);
+                this.tookFood = true;
                 this.food = 3;
             }
             this.setSpeed(4); // the eagle BOOKS it once it has the food
             //      }
         }
-        if ((this.distanceFrom(this.spawnX, this.spawnY) < engine.getDimensions().tileSize())
-                && !this.attacking) {
-            this.markForRemoval();
+        if (Contacts.inContact(this, this.spawnX, this.spawnY, tileSize) && !this.attacking) {
+            this.planToLeave();
         }
         this.move();
 
         if (attacking) {
-            double deltaX = trackedTarget.getX() - this.getX();
-            double deltaY = trackedTarget.getY() - this.getY();
-            this.setDirection((int) Math.toDegrees(Math.atan2(deltaY, deltaX)));
+            this.setDirection(Heading.towards(this, trackedTarget));
             if (trackedTarget.getY() > this.getY()) {
-                this.setSprite(art.getSprite("down"));
+                this.setSprite(SpriteHandles.EAGLE_DOWN);
             } else {
-                this.setSprite(art.getSprite("up"));
+                this.setSprite(SpriteHandles.EAGLE_UP);
             }
         } else {
-            double deltaX = this.spawnX - this.getX();
-            double deltaY = this.spawnY - this.getY();
-            this.setDirection((int) Math.toDegrees(Math.atan2(deltaY, deltaX)));
+            this.setDirection(Heading.towards(this, this.spawnX, this.spawnY));
             if (this.spawnY < this.getY()) {
-                this.setSprite(art.getSprite("up"));
+                this.setSprite(SpriteHandles.EAGLE_UP);
             } else {
-                this.setSprite(art.getSprite("down"));
+                this.setSprite(SpriteHandles.EAGLE_DOWN);
             }
         }
+    }
 
+    @Override
+    public void resolve(EngineState engine, GameState game) {
+        super.resolve(engine, game);
+        if (this.tookFood) {
+            this.tookFood = false;
+            game.getInventory().addFood(-3);
+        }
         if (this.isMarkedForRemoval()
                 && this.distanceFrom(this.spawnX, this.spawnY)
                 > engine.getDimensions().tileSize()) {
@@ -7,9 +7,18 @@ import engine.EngineState;
 
 /**
  * Base class for all enemy entities.
+ *
+ * <p>An enemy's tick is split into two phases, so that the enemies can be planned in parallel
+ * (see {@link EnemyManager#setParallel(boolean)}). {@link #plan(EngineState, GameState)} moves
+ * the enemy and works out what it intends to do, changing only the enemy itself, and {@link
+ * #resolve(EngineState, GameState)} then carries out the intents that change anything shared,
+ * such as the inventory or other entities. Subclasses override these rather than {@link
+ * #tick(EngineState, GameState)}.
  */
 public abstract class Enemy extends Npc {
 
+    private boolean leaving = false;
+
     /**
      * Creates a new Enemy at the specified position.
      *
@@ -20,6 +29,12 @@ public abstract class Enemy extends Npc {
         super(x, y);
     }
 
+    @Override
+    protected void resetNpc(int x, int y) {
+        super.resetNpc(x, y);
+        this.leaving = false;
+    }
+
     /**
      * Updates the enemy state for this game tick.
      *
@@ -28,9 +43,45 @@ public abstract class Enemy extends Npc {
      */
     @Override
     public void tick(EngineState state, GameState game) {
+        this.plan(state, game);
+        this.resolve(state, game);
+    }
+
+    /**
+     * Moves the enemy and works out its intents for this tick. Planning may only change the
+     * enemy itself and must only read the rest of the game, so that enemies can be planned in any
+     * order or at the same time.
+     *
+     * @param state the current engine state
+     * @param game the current game state, which must not be changed
+     */
+    public void plan(EngineState state, GameState game) {
         super.tick(state, game);
     }
 
+    /**
+     * Carries out the intents worked out by the last {@link #plan(EngineState, GameState)},
+     * starting with marking the enemy for removal if it planned to leave. Enemies are resolved one
+     * at a time, in the order they are ticked.
+     *
+     * @param state the current engine state
+     * @param game the current game state
+     */
+    public void resolve(EngineState state, GameState game) {
+        if (this.leaving) {
+            this.leaving = false;
+            this.markForRemoval();
+        }
+    }
+
+    /**
+     * Plans for the enemy to be marked for removal when it is next resolved, as marking it
+     * notifies the enemy's manager.
+     */
+    protected void planToLeave() {
+        this.leaving = true;
+    }
+
     @Override
     public void interact(EngineState state, GameState game) {}
 
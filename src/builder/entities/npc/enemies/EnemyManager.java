@@ -2,7 +2,13 @@ package builder.entities.npc.enemies;
 
 import builder.GameState;
 import builder.Tickable;
+import builder.TimingWheel;
 import builder.entities.Interactable;
+import builder.entities.npc.MovementBatch;
+import builder.entities.npc.NpcPool;
+import builder.entities.npc.RemovalQueue;
+import builder.entities.npc.SpatialHash;
+import builder.entities.npc.spawners.AbstractEnemySpawner;
 import builder.entities.npc.spawners.Spawner;
 import builder.player.Player;
 import builder.ui.RenderableGroup;
@@ -13,16 +19,66 @@ import engine.renderer.Dimensions;
 import engine.renderer.Renderable;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
 
 /**
  * Manages all enemy spawners and active enemies in the game.
  * Responsible for spawning, updating, and cleaning up enemies.
+ *
+ * <p>Enemy spawners are scheduled on a {@link TimingWheel}, so a spawner is only woken on the
+ * ticks it spawns on rather than ticking its own timer every tick. Spawners that do not extend
+ * {@link AbstractEnemySpawner} are ticked every tick, after the scheduled spawners.
+ *
+ * <p>Enemies are indexed by position (see {@link SpatialHash}) so that range checks such as
+ * {@link #getEnemiesWithin(int, int, int)} only measure the distance to nearby enemies. The index
+ * is rebuilt on the first query after enemies have moved, spawned or been cleaned up.
+ *
+ * <p>Enemies are also kept in a bucket per type, so that systems interested in one type of enemy
+ * (see {@link #getEnemiesOfType(Class)}) do not have to check the type of every enemy. Buckets for
+ * {@link Magpie}, {@link Pigeon} and {@link Eagle} are kept from the start, and a bucket for any
+ * other type is made the first time it is asked for.
+ *
+ * <p>The manager tracks each enemy it spawns in a {@link RemovalQueue}, which queues the enemy
+ * when it is marked for removal, so {@link #cleanup()} only visits the enemies being removed,
+ * keeping the rest, and each type's bucket, in order.
+ *
+ * <p>Enemies are ticked in two phases (see {@link Enemy}): every enemy is planned, then every
+ * enemy is resolved in order. Planning only changes the enemy being planned, so with parallel
+ * ticking on (see {@link #setParallel(boolean)}) the enemies are planned at the same time on the
+ * common fork-join pool, and the game plays out exactly as it does when ticked sequentially.
+ *
+ * <p>With pooling on (see {@link #setPooling(boolean)}), enemies that are cleaned up are kept and
+ * reused for the next enemies of the same type to spawn, rather than allocating new ones.
  */
 public class EnemyManager implements Tickable, Interactable, RenderableGroup {
 
+    /** The width and height in pixels of each cell of the enemy position index. */
+    private static final int NEARBY_CELL_SIZE = 128;
+    /** The most cleaned up enemies of each type to keep for reuse. */
+    private static final int POOL_CAPACITY = 256;
+    /** The fewest enemies worth planning in parallel by default, below which forking costs more. */
+    private static final int PARALLEL_THRESHOLD = 64;
+
+    private final TimingWheel spawnTimers = new TimingWheel();
+    /** The spawners that are not scheduled on the wheel, in the order they were added. */
     private final ArrayList<Spawner> spawners = new ArrayList<>();
     private final ArrayList<Enemy> enemies = new ArrayList<>();
+    private final SpatialHash<Enemy> nearby = new SpatialHash<>(NEARBY_CELL_SIZE);
+    private boolean nearbyStale = true;
+    private final MovementBatch movement = new MovementBatch();
+    /** The enemies of each type that has a bucket, kept in the same order as enemies. */
+    private final Map<Class<?>, TypeBucket<?>> buckets = new HashMap<>();
+    private final List<TypeBucket<?>> bucketList = new ArrayList<>();
+    private boolean parallel = false;
+    /** The fewest enemies planned in parallel, see {@link #setParallel(boolean, int)}. */
+    private int parallelThreshold = PARALLEL_THRESHOLD;
+    private final NpcPool spares = new NpcPool(POOL_CAPACITY);
+    /** The enemies marked for removal since the last cleanup. */
+    private final RemovalQueue removals = new RemovalQueue();
     private int spawnX;
     private int spawnY;
 
@@ -31,13 +87,79 @@ public class EnemyManager implements Tickable, Interactable, RenderableGroup {
      *
      * @param dimensions the game dimensions (currently unused but kept for compatibility)
      */
-    public EnemyManager(Dimensions dimensions) {}
+    public EnemyManager(Dimensions dimensions) {
+        this.bucketFor(Magpie.class);
+        this.bucketFor(Pigeon.class);
+        this.bucketFor(Eagle.class);
+        this.spares.keep(Magpie.class);
+        this.spares.keep(Pigeon.class);
+        this.spares.keep(Eagle.class);
+    }
+
+    /**
+     * Sets whether enemies that are cleaned up are reused for the next enemies to spawn. Pooling
+     * is off by default.
+     *
+     * <p>A reused enemy behaves exactly as a new enemy would, but keeps the {@link
+     * engine.game.Entity#getID() ID} it had before, and anything still holding the enemy from
+     * before it was cleaned up, such as a guard bee locked on to it, now holds the new enemy.
+     * Pooling should therefore only be turned on when nothing tells enemies apart by ID or keeps
+     * hold of enemies once they are removed, e.g. not when recording a game by the IDs of what it
+     * renders.
+     *
+     * @param pooling true to reuse enemies, false to always spawn new enemies
+     */
+    public void setPooling(boolean pooling) {
+        this.spares.setEnabled(pooling);
+    }
+
+    /**
+     * Sets whether the enemies are planned in parallel each tick, when there are enough of them
+     * for it to be worthwhile. Parallel ticking is off by default.
+     *
+     * <p>The enemies end up in the same state either way, as only planning is done in parallel
+     * and the intents of the enemies are resolved in order (see {@link Enemy}).
+     *
+     * @param parallel true to plan enemies in parallel, false to plan them one at a time
+     */
+    public void setParallel(boolean parallel) {
+        this.setParallel(parallel, PARALLEL_THRESHOLD);
+    }
+
+    /**
+     * Sets whether the enemies are planned in parallel each tick, and the fewest enemies there
+     * must be for them to be, e.g. to plan small games in parallel when testing that they play
+     * out the same (see {@link #setParallel(boolean)}).
+     *
+     * @param parallel true to plan enemies in parallel, false to plan them one at a time
+     * @param threshold the fewest enemies to plan in parallel
+     * @throws IllegalArgumentException if threshold is less than 1
+     */
+    public void setParallel(boolean parallel, int threshold) {
+        if (threshold < 1) {
+            throw new IllegalArgumentException(
+                    "Must plan at least 1 enemy in parallel: " + threshold);
+        }
+        this.parallel = parallel;
+        this.parallelThreshold = threshold;
+    }
 
     /**
      * Removes all enemies marked for removal from the active enemy list.
      */
     public void cleanup() {
-        enemies.removeIf(Enemy::isMarkedForRemoval);
+        if (removals.isEmpty()) {
+            return;
+        }
+        for (int i = 0; i < bucketList.size(); i++) {
+            removals.removeFrom(bucketList.get(i).enemies);
+        }
+        removals.removeFrom(enemies);
+        for (int i = 0; i < removals.size(); i++) {
+            spares.release(removals.get(i));
+        }
+        removals.clear();
+        nearbyStale = true;
     }
 
     /**
@@ -46,7 +168,11 @@ public class EnemyManager implements Tickable, Interactable, RenderableGroup {
      * @param spawner the spawner to add
      */
     public void add(Spawner spawner) {
-        this.spawners.add(spawner);
+        if (spawner instanceof AbstractEnemySpawner enemySpawner) {
+            enemySpawner.scheduleOn(this.spawnTimers);
+        } else {
+            this.spawners.add(spawner);
+        }
     }
 
     /**
@@ -67,8 +193,13 @@ public class EnemyManager implements Tickable, Interactable, RenderableGroup {
      * @return the created Magpie
      */
     public Magpie mkM(Player player) {
-        final Magpie magpie = new Magpie(this.spawnX, this.spawnY, player);
-        this.enemies.add(magpie);
+        Magpie magpie = this.spares.take(Magpie.class);
+        if (magpie == null) {
+            magpie = new Magpie(this.spawnX, this.spawnY, player);
+        } else {
+            magpie.recycle(this.spawnX, this.spawnY, player);
+        }
+        this.add(magpie);
         return magpie;
     }
 
@@ -79,8 +210,13 @@ public class EnemyManager implements Tickable, Interactable, RenderableGroup {
      * @return the created Pigeon
      */
     public Pigeon mkP(HasPosition target) {
-        final Pigeon pigeon = new Pigeon(this.spawnX, this.spawnY, target);
-        this.enemies.add(pigeon);
+        Pigeon pigeon = this.spares.take(Pigeon.class);
+        if (pigeon == null) {
+            pigeon = new Pigeon(this.spawnX, this.spawnY, target);
+        } else {
+            pigeon.recycle(this.spawnX, this.spawnY, target);
+        }
+        this.add(pigeon);
         return pigeon;
     }
 
@@ -91,11 +227,30 @@ public class EnemyManager implements Tickable, Interactable, RenderableGroup {
      * @return the created Eagle
      */
     public Eagle mkE(Player player) {
-        final Eagle eagle = new Eagle(this.spawnX, this.spawnY, player);
-        this.enemies.add(eagle);
+        Eagle eagle = this.spares.take(Eagle.class);
+        if (eagle == null) {
+            eagle = new Eagle(this.spawnX, this.spawnY, player);
+        } else {
+            eagle.recycle(this.spawnX, this.spawnY, player);
+        }
+        this.add(eagle);
         return eagle;
     }
 
+    /**
+     * Adds an enemy to the active enemies and the bucket of each type it is an instance of.
+     *
+     * @param enemy the enemy to add
+     */
+    private void add(Enemy enemy) {
+        this.enemies.add(enemy);
+        for (int i = 0; i < bucketList.size(); i++) {
+            bucketList.get(i).offer(enemy);
+        }
+        this.removals.track(enemy);
+        this.nearbyStale = true;
+    }
+
     /**
      * Gets all active enemies.
      * Returns a defensive copy to prevent external modification.
@@ -107,33 +262,108 @@ public class EnemyManager implements Tickable, Interactable, RenderableGroup {
     }
 
     /**
-     * Gets all Magpies currently in the game.
+     * Gets the active enemies whose distance from the given position is less than the given
+     * distance, as measured by {@link builder.entities.npc.Npc#distanceFrom(int, int)}.
      *
-     * @return a list of all active Magpies
+     * @param x the x coordinate of the position
+     * @param y the y coordinate of the position
+     * @param distance the exclusive maximum distance in pixels
+     * @return the enemies within the distance, in the same order as {@link #getAllEnemies()}
      */
-    public List<Magpie> getMagpies() {
-        final ArrayList<Magpie> magpies = new ArrayList<>();
-        for (Enemy enemy : enemies) {
-            if (enemy instanceof Magpie) {
-                magpies.add((Magpie) enemy);
+    public List<Enemy> getEnemiesWithin(int x, int y, int distance) {
+        List<Enemy> result = new ArrayList<>();
+        getEnemiesWithin(x, y, distance, result);
+        return result;
+    }
+
+    /**
+     * Appends the active enemies within the given distance of a position to a list, as {@link
+     * #getEnemiesWithin(int, int, int)}. Callers that query every tick should reuse the list, so
+     * that the query does not allocate.
+     *
+     * @param x the x coordinate of the position
+     * @param y the y coordinate of the position
+     * @param distance the exclusive maximum distance in pixels
+     * @param result the list to append the enemies to
+     */
+    public void getEnemiesWithin(int x, int y, int distance, List<? super Enemy> result) {
+        if (nearbyStale) {
+            nearby.rebuild(enemies);
+            nearbyStale = false;
+        }
+        nearby.within(x, y, distance, result);
+    }
+
+    /**
+     * Returns the bucket for the given type, making and filling it if there is none yet.
+     *
+     * @param type the type of enemy
+     * @return the bucket of enemies of that type
+     */
+    @SuppressWarnings("unchecked")
+    private <T extends Enemy> TypeBucket<T> bucketFor(Class<T> type) {
+        TypeBucket<T> bucket = (TypeBucket<T>) buckets.get(type);
+        if (bucket == null) {
+            bucket = new TypeBucket<>(type);
+            for (int i = 0; i < enemies.size(); i++) {
+                bucket.offer(enemies.get(i));
             }
+            buckets.put(type, bucket);
+            bucketList.add(bucket);
         }
-        return magpies;
+        return bucket;
+    }
+
+    /**
+     * Gets the active enemies of the given type, i.e. that are instances of the given class, in
+     * the same order as {@link #getAllEnemies()}.
+     *
+     * <p>The result is a read-only view that is kept up to date as enemies spawn and are cleaned
+     * up, so it does not need to be fetched again, and iterating it does not copy the enemies.
+     * Enemies spawned during the tick are added to the end of the view, so iterating by index up
+     * to a size taken before the loop is safe during the tick.
+     *
+     * @param type the type of enemy, e.g. Magpie.class
+     * @param <T> the type of enemy
+     * @return a read-only view of the active enemies of that type
+     */
+    public <T extends Enemy> List<T> getEnemiesOfType(Class<T> type) {
+        return bucketFor(type).view;
+    }
+
+    /**
+     * Gets all Magpies currently in the game, see {@link #getEnemiesOfType(Class)}.
+     *
+     * @return a read-only view of all active Magpies
+     */
+    public List<Magpie> getMagpies() {
+        return getEnemiesOfType(Magpie.class);
     }
 
     @Override
     public void tick(EngineState state, GameState game) {
         this.cleanup();
 
-        // Tick all spawners
+        // Wake the spawners that spawn this tick, in the order they were added, then tick the rest
+        this.spawnTimers.advance(state, game);
         for (Spawner spawner : this.spawners) {
             spawner.tick(state, game);
         }
 
-        // Tick all enemies (polymorphism - no instanceof needed!)
-        for (Enemy enemy : enemies) {
-            enemy.tick(state, game);
+        // Tick all enemies (polymorphism - no instanceof needed!), having moved them all at once
+        this.movement.advance(enemies);
+        final int count = enemies.size();
+        if (this.parallel && count >= this.parallelThreshold) {
+            IntStream.range(0, count).parallel().forEach(i -> enemies.get(i).plan(state, game));
+        } else {
+            for (int i = 0; i < count; i++) {
+                enemies.get(i).plan(state, game);
+            }
         }
+        for (int i = 0; i < count; i++) {
+            enemies.get(i).resolve(state, game);
+        }
+        this.nearbyStale = true;
     }
 
     @Override
@@ -145,4 +375,29 @@ public class EnemyManager implements Tickable, Interactable, RenderableGroup {
     public List<Renderable> render() {
         return new ArrayList<>(this.enemies);
     }
-}
\ No newline at end of file
+
+    @Override
+    public void renderInto(List<Renderable> renderables) {
+        for (int i = 0; i < this.enemies.size(); i++) {
+            renderables.add(this.enemies.get(i));
+        }
+    }
+
+    /** The active enemies of one type, in the same order as the active enemies. */
+    private static final class TypeBucket<T extends Enemy> {
+        private final Class<T> type;
+        private final List<T> enemies = new ArrayList<>();
+        private final List<T> view = Collections.unmodifiableList(enemies);
+
+        private TypeBucket(Class<T> type) {
+            this.type = type;
+        }
+
+        /** Add the enemy to the bucket if it is of the bucket's type. */
+        private void offer(Enemy enemy) {
+            if (type.isInstance(enemy)) {
+                enemies.add(type.cast(enemy));
+            }
+        }
+    }
+}
@@ -1,12 +1,13 @@
 package builder.entities.npc.enemies;
 
 import builder.GameState;
+import builder.entities.npc.Contacts;
 import builder.entities.npc.Expirable;
+import builder.entities.npc.Heading;
 import builder.player.Player;
-import builder.ui.SpriteGallery;
+import builder.ui.SpriteHandles;
 
 import engine.EngineState;
-import engine.art.sprites.SpriteGroup;
 import engine.game.HasPosition;
 import engine.timing.FixedTimer;
 import engine.timing.RepeatingTimer;
@@ -17,17 +18,18 @@ import engine.timing.RepeatingTimer;
  */
 public class Magpie extends Enemy implements Expirable {
 
-    private static final SpriteGroup art = SpriteGallery.magpie;
-    private FixedTimer lifespan = new FixedTimer(10000);
+    private FixedTimer lifespan;
 
     private HasPosition trackedTarget;
     private Boolean attacking;
-    private int coins = 0;
+    private int coins;
 
-    private RepeatingTimer directionalUpdateTimer = new RepeatingTimer(30);
+    private RepeatingTimer directionalUpdateTimer;
 
-    private final int spawnX;
-    private final int spawnY;
+    private int spawnX;
+    private int spawnY;
+    /** Whether the magpie reached the player in its last plan. */
+    private boolean reachedPlayer;
 
     /**
      * Creates a new Magpie enemy.
@@ -38,15 +40,35 @@ public class Magpie extends Enemy implements Expirable {
      */
     public Magpie(int x, int y, HasPosition target) {
         super(x, y);
+        this.init(x, y, target);
+    }
+
+    /**
+     * Resets this magpie to the state of a new magpie, so that a magpie taken from a {@link
+     * builder.entities.npc.NpcPool} can be reused, see {@link #Magpie(int, int, HasPosition)}.
+     *
+     * @param x the x coordinate
+     * @param y the y coordinate
+     * @param target the target to track (usually the player)
+     */
+    public void recycle(int x, int y, HasPosition target) {
+        this.resetNpc(x, y);
+        this.init(x, y, target);
+    }
+
+    /** Sets up the state kept by a new magpie, for both constructing and recycling. */
+    private void init(int x, int y, HasPosition target) {
+        this.lifespan = new FixedTimer(10000);
+        this.coins = 0;
+        this.directionalUpdateTimer = new RepeatingTimer(30);
+        this.reachedPlayer = false;
         this.spawnX = x;
         this.spawnY = y;
         this.trackedTarget = target;
-        this.setSprite(art.getSprite("down"));
+        this.setSprite(SpriteHandles.MAGPIE_DOWN);
         this.attacking = true;
 
-        double deltaX = target.getX() - this.getX();
-        double deltaY = target.getY() - this.getY();
-        this.setDirection((int) Math.toDegrees(Math.atan2(deltaY, deltaX)));
+        this.setDirection(Heading.towards(this, target));
     }
 
     /**
@@ -86,6 +108,14 @@ public class Magpie extends Enemy implements Expirable {
         this.attacking = attacking;
     }
 
+    /**
+     * Makes the magpie stop attacking and return to its spawn, e.g. when near a scarecrow.
+     */
+    @Override
+    public void scare() {
+        this.setAttacking(false);
+    }
+
     /**
      * Gets the number of coins stolen.
      *
@@ -115,30 +145,26 @@ public class Magpie extends Enemy implements Expirable {
     }
 
     @Override
-    public void tick(EngineState engine, GameState game) {
-        super.tick(engine, game);
+    public void plan(EngineState engine, GameState game) {
+        super.plan(engine, game);
         this.lifespan.tick();
         if (this.lifespan.isFinished()) {
-            this.markForRemoval();
+            this.planToLeave();
         }
         if (this.attacking) {
-            double deltaX = trackedTarget.getX() - this.getX();
-            double deltaY = trackedTarget.getY() - this.getY();
-            this.setDirection((int) Math.toDegrees(Math.atan2(deltaY, deltaX)));
+            this.setDirection(Heading.towards(this, trackedTarget));
             // Target is below
             if (trackedTarget.getY() > this.getY()) {
-                this.setSprite(art.getSprite("down"));
+                this.setSprite(SpriteHandles.MAGPIE_DOWN);
             } else {
-                this.setSprite(art.getSprite("up"));
+                this.setSprite(SpriteHandles.MAGPIE_UP);
             }
         } else {
-            double deltaX = this.spawnX - this.getX();
-            double deltaY = this.spawnY - this.getY();
-            this.setDirection((int) Math.toDegrees(Math.atan2(deltaY, deltaX)));
+            this.setDirection(Heading.towards(this, this.spawnX, this.spawnY));
             if (this.spawnY < this.getY()) {
-                this.setSprite(art.getSprite("up"));
+                this.setSprite(SpriteHandles.MAGPIE_UP);
             } else {
-                this.setSprite(art.getSprite("down"));
+                this.setSprite(SpriteHandles.MAGPIE_DOWN);
             }
         }
         this.move();
@@ -146,9 +172,14 @@ public class Magpie extends Enemy implements Expirable {
 
         Player player = game.getPlayer();
 
-        final boolean hasHitPlayer =
-                this.distanceFrom(player.getX(), player.getY()) < engine.getDimensions().tileSize();
-        if (hasHitPlayer && game.getInventory().getCoins() > 0 && this.attacking) {
+        this.reachedPlayer = Contacts.inContact(this, player, engine.getDimensions().tileSize());
+    }
+
+    @Override
+    public void resolve(EngineState engine, GameState game) {
+        super.resolve(engine, game);
+        // whether there is a coin to steal depends on the magpies resolved before this one
+        if (this.reachedPlayer && game.getInventory().getCoins() > 0 && this.attacking) {
             game.getInventory().addCoins(-1);
             this.coins += 1;
             this.attacking = false;
@@ -156,7 +187,7 @@ public class Magpie extends Enemy implements Expirable {
         }
 
         if (!attacking) {
-            if (this.distanceFrom(spawnX, spawnY) < engine.getDimensions().tileSize()) {
+            if (Contacts.inContact(this, spawnX, spawnY, engine.getDimensions().tileSize())) {
                 this.markForRemoval();
             }
         }
@@ -1,13 +1,14 @@
 package builder.entities.npc.enemies;
 
 import builder.GameState;
+import builder.entities.npc.Contacts;
 import builder.entities.npc.Expirable;
+import builder.entities.npc.Heading;
 import builder.entities.resources.Cabbage;
 import builder.entities.tiles.Tile;
-import builder.ui.SpriteGallery;
+import builder.ui.SpriteHandles;
 
 import engine.EngineState;
-import engine.art.sprites.SpriteGroup;
 import engine.game.Entity;
 import engine.game.HasPosition;
 import engine.timing.FixedTimer;
@@ -21,12 +22,13 @@ import java.util.List;
  */
 public class Pigeon extends Enemy implements Expirable {
 
-    private static final SpriteGroup art = SpriteGallery.pigeon;
     private FixedTimer lifespan = new FixedTimer(3000);
     private HasPosition trackedTarget;
     private Boolean attacking = true;
     private int spawnX = 0;
     private int spawnY = 0;
+    /** The tile the pigeon ate the cabbages of in its last plan, or null if it ate none. */
+    private Tile eatenFrom;
 
     /**
      * Creates a new Pigeon at the specified position.
@@ -49,11 +51,32 @@ public class Pigeon extends Enemy implements Expirable {
      */
     public Pigeon(int x, int y, HasPosition trackedTarget) {
         super(x, y);
+        this.init(x, y, trackedTarget);
+    }
+
+    /**
+     * Resets this pigeon to the state of a new pigeon, so that a pigeon taken from a {@link
+     * builder.entities.npc.NpcPool} can be reused, see {@link #Pigeon(int, int, HasPosition)}.
+     *
+     * @param x the initial X coordinate
+     * @param y the initial Y coordinate
+     * @param trackedTarget the target to track
+     */
+    public void recycle(int x, int y, HasPosition trackedTarget) {
+        this.resetNpc(x, y);
+        this.init(x, y, trackedTarget);
+    }
+
+    /** Sets up the state kept by a new tracking pigeon, for both constructing and recycling. */
+    private void init(int x, int y, HasPosition trackedTarget) {
+        this.lifespan = new FixedTimer(3000);
+        this.attacking = true;
+        this.eatenFrom = null;
         this.spawnX = x;
         this.spawnY = y;
         this.trackedTarget = trackedTarget;
         this.setSpeed(1);
-        this.setSprite(art.getSprite("down"));  // ← add ths
+        this.setSprite(SpriteHandles.PIGEON_DOWN);
     }
 
     /**
@@ -92,6 +115,14 @@ public class Pigeon extends Enemy implements Expirable {
         this.attacking = attacking;
     }
 
+    /**
+     * Makes the pigeon stop attacking and return to its spawn, e.g. when near a scarecrow.
+     */
+    @Override
+    public void scare() {
+        this.setAttacking(false);
+    }
+
     @Override
     public FixedTimer getLifespan() {
         return lifespan;
@@ -103,22 +134,21 @@ public class Pigeon extends Enemy implements Expirable {
     }
 
     @Override
-    public void tick(EngineState engine, GameState game) {
-        super.tick(engine, game);
+    public void plan(EngineState engine, GameState game) {
+        super.plan(engine, game);
+        this.eatenFrom = null;
         if (!this.attacking) {
-            double deltaX = (this.spawnX - this.getX());
-            double deltaY = (this.spawnY - this.getY());
-            this.setDirection((int) Math.toDegrees(Math.atan2(deltaY, deltaX)));
+            this.setDirection(Heading.towards(this, this.spawnX, this.spawnY));
 
             // Get close to spawn
-            if (this.distanceFrom(this.spawnX, this.spawnY)
-                    < engine.getDimensions().tileSize()) {
-                this.markForRemoval();
+            final int tileSize = engine.getDimensions().tileSize();
+            if (Contacts.inContact(this, this.spawnX, this.spawnY, tileSize)) {
+                this.planToLeave();
             }
             if (this.spawnY < this.getY()) {
-                this.setSprite(art.getSprite("up"));
+                this.setSprite(SpriteHandles.PIGEON_UP);
             } else {
-                this.setSprite(art.getSprite("down"));
+                this.setSprite(SpriteHandles.PIGEON_DOWN);
             }
         }
         this.move();
@@ -126,52 +156,38 @@ public class Pigeon extends Enemy implements Expirable {
         if (this.trackedTarget == null && this.attacking) {
             double deltaX = ((double) engine.getDimensions().windowSize() / 2 - this.getX());
             double deltaY = ((double) engine.getDimensions().windowSize() / 2 - this.getY());
-            this.setDirection((int) Math.toDegrees(Math.atan2(deltaY, deltaX)));
+            this.setDirection(Heading.degrees(deltaY, deltaX));
             if (trackedTarget.getY() > this.getY()) {
-                this.setSprite(art.getSprite("down"));
+                this.setSprite(SpriteHandles.PIGEON_DOWN);
             } else {
-                this.setSprite(art.getSprite("up"));
+                this.setSprite(SpriteHandles.PIGEON_UP);
             }
         } else {
             // do nothing
         }
         if (this.trackedTarget != null && this.attacking) {
-            double deltaX = (this.trackedTarget.getX() - this.getX());
-            double deltaY = (this.trackedTarget.getY() - this.getY());
-            this.setDirection((int) Math.toDegrees(Math.atan2(deltaY, deltaX)));
+            this.setDirection(Heading.towards(this, this.trackedTarget));
         } else {
             // do nothing
         }
         this.lifespan.tick();
         if (this.lifespan.isFinished()) {
-            this.markForRemoval();
+            this.planToLeave();
         } else {
             // do nothing
         }
         if (!attacking) {
-            if (this.distanceFrom(spawnX, spawnY) < engine.getDimensions().tileSize()) {
-                this.markForRemoval();
+            if (Contacts.inContact(this, spawnX, spawnY, engine.getDimensions().tileSize())) {
+                this.planToLeave();
             }
             if (this.spawnY < this.getY()) {
-                this.setSprite(art.getSprite("up"));
+                this.setSprite(SpriteHandles.PIGEON_UP);
             } else {
-                this.setSprite(art.getSprite("down"));
+                this.setSprite(SpriteHandles.PIGEON_DOWN);
             }
         }
 
-        List<Tile> tiles =
-                game.getWorld()
-                        .tileSelector(
-                                tile -> {
-                                    for (Entity entity : tile.getStackedEntities()) {
-                                        if (entity instanceof Cabbage) {
-                                            return true;
-                                        } else {
-                                            // do nothing
-                                        }
-                                    }
-                                    return false;
-                                });
+        List<Tile> tiles = game.getWorld().tilesWithCabbage();
         if (tiles.size() > 0) {
             int distance = this.distanceFrom(tiles.getFirst());
             Tile closest = tiles.getFirst();
@@ -184,11 +200,11 @@ public class Pigeon extends Enemy implements Expirable {
             }
             this.trackedTarget = closest;
 
-            if (this.attacking
-                    && this.distanceFrom(this.trackedTarget) < engine.getDimensions().tileSize()) {
+            final int tileSize = engine.getDimensions().tileSize();
+            if (this.attacking && Contacts.inContact(this, this.trackedTarget, tileSize)) {
                 for (Entity entity : closest.getStackedEntities()) {
-                    if (entity instanceof Cabbage cabbage) {
-                        cabbage.markForRemoval();
+                    if (entity instanceof Cabbage) {
+                        this.eatenFrom = closest;
                         this.attacking = false;
                     } else {
                         // do nothing
@@ -200,4 +216,19 @@ public class Pigeon extends Enemy implements Expirable {
             this.attacking = false;
         }
     }
+
+    @Override
+    public void resolve(EngineState engine, GameState game) {
+        super.resolve(engine, game);
+        if (this.eatenFrom != null) {
+            // the stacked entities have not changed since planning, as cabbages marked for
+            // removal stay on their tile until the world is ticked
+            for (Entity entity : this.eatenFrom.getStackedEntities()) {
+                if (entity instanceof Cabbage cabbage) {
+                    cabbage.markForRemoval();
+                }
+            }
+            this.eatenFrom = null;
+        }
+    }
 }
\ No newline at end of file
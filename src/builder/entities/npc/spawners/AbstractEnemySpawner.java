@@ -1,6 +1,7 @@
 package builder.entities.npc.spawners;
 
 import builder.GameState;
+import builder.TimingWheel;
 import engine.EngineState;
 import engine.timing.RepeatingTimer;
 import engine.timing.TickTimer;
@@ -9,12 +10,17 @@ import engine.timing.TickTimer;
  * Abstract base class for enemy spawners that spawn enemies at regular intervals.
  * Subclasses must implement the {@link #spawnEnemy(EngineState, GameState)} method
  * to define how their specific enemy type is spawned.
+ *
+ * <p>A spawner either ticks its own timer each tick, or is scheduled on a {@link TimingWheel}
+ * (see {@link #scheduleOn(TimingWheel)}) that wakes it only on the ticks it spawns on.
  */
 public abstract class AbstractEnemySpawner implements Spawner {
 
     private int xpos;
     private int ypos;
-    private final TickTimer timer;
+    private final int duration;
+    private TickTimer timer;
+    private boolean scheduled = false;
 
     /**
      * Creates a spawner at the given location with a default spawn interval.
@@ -26,9 +32,24 @@ public abstract class AbstractEnemySpawner implements Spawner {
     protected AbstractEnemySpawner(int xpos, int ypos, int defaultDuration) {
         this.xpos = xpos;
         this.ypos = ypos;
+        this.duration = defaultDuration;
         this.timer = new RepeatingTimer(defaultDuration);
     }
 
+    /**
+     * Schedules this spawner's spawns on a timing wheel, so that the spawner is woken on the ticks
+     * its timer would have finished on instead of being ticked. From then on {@link
+     * #tick(EngineState, GameState)} does nothing and {@link #getTimer()} returns the spawner's
+     * timer on the wheel.
+     *
+     * @param wheel the wheel to schedule on, which must be advanced once per tick in place of
+     *     ticking the spawner
+     */
+    public void scheduleOn(TimingWheel wheel) {
+        this.timer = wheel.scheduleRepeating(this.duration, this::spawn);
+        this.scheduled = true;
+    }
+
     @Override
     public TickTimer getTimer() {
         return timer;
@@ -36,8 +57,18 @@ public abstract class AbstractEnemySpawner implements Spawner {
 
     @Override
     public void tick(EngineState state, GameState game) {
+        if (scheduled) {
+            return;
+        }
         timer.tick();
-        if (timer.isFinished() && canSpawn(state, game)) {
+        if (timer.isFinished()) {
+            spawn(state, game);
+        }
+    }
+
+    /** Spawns an enemy if the spawner can, on a tick its timer has finished on. */
+    private void spawn(EngineState state, GameState game) {
+        if (canSpawn(state, game)) {
             spawnEnemy(state, game);
         }
     }
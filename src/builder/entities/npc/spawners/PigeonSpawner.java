@@ -1,10 +1,8 @@
 package builder.entities.npc.spawners;
 
 import builder.GameState;
-import builder.entities.resources.Cabbage;
 import builder.entities.tiles.Tile;
 import engine.EngineState;
-import engine.game.Entity;
 import engine.game.HasPosition;
 
 import java.util.List;
@@ -60,14 +58,7 @@ public class PigeonSpawner extends AbstractEnemySpawner {
      * @return the closest tile with cabbage, or null if no cabbage exists
      */
     private Tile findClosestCabbage(GameState game) {
-        List<Tile> tilesWithCabbage = game.getWorld().tileSelector(tile -> {
-            for (Entity entity : tile.getStackedEntities()) {
-                if (entity instanceof Cabbage) {
-                    return true;
-                }
-            }
-            return false;
-        });
+        List<Tile> tilesWithCabbage = game.getWorld().tilesWithCabbage();
 
         if (tilesWithCabbage.isEmpty()) {
             return null;
@@ -2,10 +2,11 @@ package builder.entities.resources;
 
 import builder.GameState;
 import builder.entities.Interactable;
+import builder.entities.Tended;
 import builder.ui.SpriteGallery;
+import builder.ui.SpriteHandles;
 
 import engine.EngineState;
-import engine.art.sprites.SpriteGroup;
 import engine.game.Entity;
 import engine.timing.RepeatingTimer;
 import engine.timing.TickTimer;
@@ -18,15 +19,18 @@ import engine.timing.TimerDuration;
  *
  * @stage3
  */
-public class Cabbage extends Entity implements Interactable {
+public class Cabbage extends Entity implements Interactable, Tended {
 
     private final TickTimer timer = new RepeatingTimer(TimerDuration.SHORT);
-    private static final SpriteGroup art = SpriteGallery.cabbage;
     private int growthState = 0;
+    private Grower grower;
 
     /** The cost of planting a cabbage, 2 coins. */
     public static final int COST = 2;
 
+    /** The growth state of a fully grown cabbage, which can be collected. */
+    public static final int GROWN = 4;
+
     /**
      * Construct a new cabbage entity at the given x, y position.
      *
@@ -39,7 +43,7 @@ public class Cabbage extends Entity implements Interactable {
      */
     public Cabbage(int x, int y) {
         super(x, y);
-        this.setSprite(art.getSprite("default"));
+        this.setSprite(SpriteHandles.CABBAGE_GROWTH.get(0));
     }
 
     /**
@@ -50,31 +54,79 @@ public class Cabbage extends Entity implements Interactable {
      *
      * <p>The cabbage should transition into its next state every 100 ticks.
      *
+     * <p>A cabbage with a grower (see {@link #setGrower(Grower)}) is grown by it instead, and
+     * does nothing when ticked.
+     *
      * @hint To track cabbage state transitions, you may find {@link RepeatingTimer} and {@link
      *     TimerDuration#SHORT} helpful.
      */
     @Override
     public void tick(EngineState state) {
+        if (this.grower != null) {
+            return;
+        }
         this.timer.tick();
         if (this.timer.isFinished()) {
-            if (this.growthState < 4) {
-                this.growthState++;
-            }
-            this.updateArt();
+            this.grow();
+        }
+    }
+
+    /**
+     * Progress the cabbage to its next growth state, as happens every 100 ticks, updating how it
+     * is rendered. A fully grown cabbage stays fully grown.
+     */
+    public void grow() {
+        if (this.growthState < GROWN) {
+            this.growthState++;
+        }
+        this.updateArt();
+    }
+
+    /**
+     * Set the grower that grows this cabbage in place of its own timer, replacing any previous
+     * grower.
+     *
+     * @param grower The grower, or null for the cabbage to grow by itself when ticked.
+     */
+    public void setGrower(Grower grower) {
+        this.grower = grower;
+    }
+
+    /**
+     * Returns the grower that grows this cabbage in place of its own timer.
+     *
+     * @return The cabbage's grower, or null if it grows by itself when ticked.
+     */
+    public Grower getGrower() {
+        return this.grower;
+    }
+
+    /**
+     * Whether the cabbage needs to be ticked: while it grows by itself, or once it has been marked
+     * for removal so that the tile it is on cleans it up.
+     *
+     * @return true if the cabbage has no grower or is marked for removal, false otherwise.
+     */
+    @Override
+    public boolean needsTicking() {
+        return this.grower == null || this.isMarkedForRemoval();
+    }
+
+    /**
+     * Marks this cabbage for removal, notifying the cabbage's grower the first time.
+     */
+    @Override
+    public void markForRemoval() {
+        boolean first = !this.isMarkedForRemoval();
+        super.markForRemoval();
+        if (first && this.grower != null) {
+            this.grower.markedForRemoval(this);
         }
     }
 
     /** Updates the displayed art of this entity based on the given progress value. */
     private void updateArt() {
-        this.setSprite(
-                art.getSprite(
-                        switch (this.growthState) {
-                            case 0 -> "default";
-                            case 1 -> "budding";
-                            case 2 -> "growing";
-                            case 3 -> "grown";
-                            default -> "collectable";
-                        }));
+        this.setSprite(SpriteHandles.CABBAGE_GROWTH.get(this.growthState));
     }
 
     /**
@@ -90,7 +142,7 @@ public class Cabbage extends Entity implements Interactable {
      */
     @Override
     public void interact(EngineState state, GameState game) {
-        if (this.growthState >= 4) {
+        if (this.growthState >= GROWN) {
             game.getInventory().addFood(COST);
             game.getInventory().addCoins(3);
             this.markForRemoval();
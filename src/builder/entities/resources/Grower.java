@@ -0,0 +1,20 @@
+package builder.entities.resources;
+
+/**
+ * Grows {@link Cabbage}s on a schedule in place of their own timers. A cabbage has at most one
+ * grower, usually the world it has been planted in (see {@link Cabbage#setGrower(Grower)}). A
+ * cabbage with a grower has nothing to do when it is ticked; the grower calls {@link
+ * Cabbage#grow()} on the ticks the cabbage's own timer would have finished on instead.
+ *
+ * <p>All notifications default to doing nothing.
+ */
+public interface Grower {
+
+    /**
+     * Called when the cabbage is first marked for removal via {@link Cabbage#markForRemoval()},
+     * e.g. so that the tile it is stacked on is ticked to clean it up.
+     *
+     * @param cabbage The cabbage that was marked for removal.
+     */
+    default void markedForRemoval(Cabbage cabbage) {}
+}
@@ -5,9 +5,9 @@ import builder.entities.Usable;
 import builder.inventory.items.Jackhammer;
 import builder.player.Player;
 import builder.ui.SpriteGallery;
+import builder.ui.SpriteHandles;
 
 import engine.EngineState;
-import engine.art.sprites.SpriteGroup;
 import engine.game.Entity;
 import engine.timing.RepeatingTimer;
 import engine.timing.TickTimer;
@@ -21,7 +21,6 @@ import engine.timing.TickTimer;
  */
 public class Ore extends Entity implements Usable {
 
-    private static final SpriteGroup art = SpriteGallery.rock;
     private static final int COIN_VALUE = 10;
     private int coins = COIN_VALUE;
 
@@ -40,7 +39,7 @@ public class Ore extends Entity implements Usable {
      */
     public Ore(int x, int y) {
         super(x, y);
-        this.setSprite(art.getSprite("default"));
+        this.setSprite(SpriteHandles.ORE_DEFAULT);
     }
 
     /**
@@ -54,14 +53,16 @@ public class Ore extends Entity implements Usable {
      */
     @Override
     public void tick(EngineState state) {
-        timer.tick();
+        if (USE_TIMER) {
+            timer.tick();
+        }
         double remainingRatio = (double) coins / COIN_VALUE;
         if (remainingRatio > 0.9) {
-            this.setSprite(art.getSprite("default"));
+            this.setSprite(SpriteHandles.ORE_DEFAULT);
         } else if (remainingRatio > 0.1) {
-            this.setSprite(art.getSprite("damaged"));
+            this.setSprite(SpriteHandles.ORE_DAMAGED);
         } else {
-            this.setSprite(art.getSprite("depleted"));
+            this.setSprite(SpriteHandles.ORE_DEPLETED);
         }
     }
 
@@ -49,7 +49,7 @@ public class Grass extends Tile {
                 && this.getStackedEntities().isEmpty()) {
             this.markForRemoval();
             Tile dirt = TileFactory.fromSymbol(this.getX(), this.getY(), 'd');
-            game.getWorld().place(dirt);
+            game.getWorld().replace(this, dirt);
         }
 
         if (game.getInventory().getHolding() instanceof HiveHammer
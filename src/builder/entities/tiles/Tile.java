@@ -2,6 +2,7 @@ package builder.entities.tiles;
 
 import builder.GameState;
 import builder.entities.Interactable;
+import builder.entities.Tended;
 import builder.entities.Usable;
 import builder.ui.RenderableGroup;
 
@@ -37,6 +38,7 @@ public abstract class Tile extends Entity
 
     private SpriteGroup art;
     private final List<Entity> stackedEntities = new ArrayList<>();
+    private TileListener listener;
 
     /**
      * Constructs an instance of {@link Tile}.
@@ -54,6 +56,24 @@ public abstract class Tile extends Entity
         setArt(art);
     }
 
+    /**
+     * Set the listener to notify of changes to this tile, replacing any previous listener.
+     *
+     * @param listener The listener to notify, or null to stop notifying.
+     */
+    public void setListener(TileListener listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * Returns the listener notified of changes to this tile.
+     *
+     * @return The tile's listener, or null if there is none.
+     */
+    public TileListener getListener() {
+        return this.listener;
+    }
+
     /**
      * Set the sprite group for this tile and updates the current sprite (see {@link
      * #updateSprite(String)}) to the 'default' sprite of the given group.
@@ -99,11 +119,51 @@ public abstract class Tile extends Entity
         }
     }
 
+    /**
+     * Whether this tile has anything to progress when it is ticked. A tile is active while it has
+     * stacked entities or is marked for removal; an inactive tile's {@link #tick(EngineState)} does
+     * nothing, so a world may skip ticking it until it becomes active again (see {@link
+     * TileListener}). A stacked {@link Tended} entity only makes the tile active while it needs
+     * ticking.
+     *
+     * <p>Subclasses that progress their own state in {@link #tick(EngineState)}, e.g. with a timer,
+     * must override this to return true while that state is running.
+     *
+     * @return true if this tile needs to be ticked, false otherwise.
+     */
+    public boolean isActive() {
+        if (isMarkedForRemoval()) {
+            return true;
+        }
+        for (Entity stackedEntity : this.stackedEntities) {
+            if (!(stackedEntity instanceof Tended tended) || tended.needsTicking()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Mark this tile for removal, notifying the tile's listener.
+     *
+     * @ensures isMarkedForRemoval() is true
+     */
+    @Override
+    public void markForRemoval() {
+        super.markForRemoval();
+        if (this.listener != null) {
+            this.listener.markedForRemoval(this);
+        }
+    }
+
     /** Removes any stacked entities that are marked for removal. */
     private void cleanup() {
         for (int i = this.stackedEntities.size() - 1; i >= 0; i -= 1) {
             if (this.stackedEntities.get(i).isMarkedForRemoval()) {
-                this.stackedEntities.remove(i);
+                Entity removed = this.stackedEntities.remove(i);
+                if (this.listener != null) {
+                    this.listener.unstacked(this, removed);
+                }
             }
         }
     }
@@ -128,6 +188,9 @@ public abstract class Tile extends Entity
      */
     public void placeOn(Entity tile) {
         this.stackedEntities.add(tile);
+        if (this.listener != null) {
+            this.listener.stacked(this, tile);
+        }
     }
 
     /**
@@ -189,8 +252,16 @@ public abstract class Tile extends Entity
      */
     @Override
     public List<Renderable> render() {
-        List<Renderable> result = new ArrayList<>(List.of(this));
-        result.addAll(getStackedEntities());
+        List<Renderable> result = new ArrayList<>(1 + this.stackedEntities.size());
+        renderInto(result);
         return result;
     }
+
+    @Override
+    public void renderInto(List<Renderable> renderables) {
+        renderables.add(this);
+        for (int i = 0; i < this.stackedEntities.size(); i++) {
+            renderables.add(this.stackedEntities.get(i));
+        }
+    }
 }
@@ -0,0 +1,36 @@
+package builder.entities.tiles;
+
+import engine.game.Entity;
+
+/**
+ * Receives notifications about changes to a {@link Tile}. A tile has at most one listener, usually
+ * the world it has been placed in (see {@link Tile#setListener(TileListener)}), which uses these
+ * notifications to keep its indexes up to date without rescanning its tiles.
+ *
+ * <p>All notifications default to doing nothing.
+ */
+public interface TileListener {
+
+    /**
+     * Called after an entity has been stacked onto the tile via {@link Tile#placeOn(Entity)}.
+     *
+     * @param tile The tile the entity was stacked onto.
+     * @param entity The entity that was stacked.
+     */
+    default void stacked(Tile tile, Entity entity) {}
+
+    /**
+     * Called after a stacked entity that was marked for removal has been removed from the tile.
+     *
+     * @param tile The tile the entity was removed from.
+     * @param entity The entity that was removed.
+     */
+    default void unstacked(Tile tile, Entity entity) {}
+
+    /**
+     * Called after the tile has been marked for removal via {@link Tile#markForRemoval()}.
+     *
+     * @param tile The tile that was marked for removal.
+     */
+    default void markedForRemoval(Tile tile) {}
+}
@@ -1,5 +1,6 @@
 package builder.inventory.items;
 
+import builder.ui.FrameAnimation;
 import builder.ui.SpriteGallery;
 
 import engine.art.sprites.Sprite;
@@ -20,7 +21,7 @@ public class Bucket implements Item {
     private static final SpriteGroup toolArt = SpriteGallery.tools;
     private static final SpriteGroup art = SpriteGallery.chickenFarmer;
     private final Animation water =
-            new Animation(
+            new FrameAnimation(
                     AnimationDuration.MEDIUM,
                     new Sprite[] {art.getSprite("plant1"), art.getSprite("plant2")});
 
@@ -1,5 +1,6 @@
 package builder.inventory.items;
 
+import builder.ui.FrameAnimation;
 import builder.ui.SpriteGallery;
 
 import engine.art.sprites.Sprite;
@@ -20,7 +21,7 @@ public class Jackhammer implements Item {
     private static final SpriteGroup toolArt = SpriteGallery.tools;
     private static final SpriteGroup art = SpriteGallery.chickenFarmer;
     private final Animation dig =
-            new Animation(
+            new FrameAnimation(
                     AnimationDuration.MEDIUM,
                     new Sprite[] {art.getSprite("jackhammer1"), art.getSprite("jackhammer2")});
 
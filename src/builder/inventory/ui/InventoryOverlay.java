@@ -11,6 +11,7 @@ import engine.renderer.Renderable;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -66,6 +67,12 @@ public class InventoryOverlay implements Overlay {
         return renderables;
     }
 
+    @Override
+    public void renderInto(List<Renderable> renderables) {
+        Collections.addAll(renderables, inventorySquares);
+        Collections.addAll(renderables, inventorySlots);
+    }
+
     @Override
     public void tick(EngineState state, GameState game) {
         Inventory inventory = game.getInventory();
@@ -1,7 +1,9 @@
 package builder.player;
 
 import builder.inventory.items.Item;
+import builder.ui.FrameAnimation;
 import builder.ui.SpriteGallery;
+import builder.ui.SpriteHandles;
 
 import engine.EngineState;
 import engine.art.sprites.Sprite;
@@ -36,13 +38,13 @@ public class ChickenFarmer extends Entity implements Player {
     private static final SpriteGroup art = SpriteGallery.chickenFarmer;
     private Animation useAnimation = null;
     private final Animation walkLeft =
-            new Animation(
+            new FrameAnimation(
                     AnimationDuration.SLOW,
                     new Sprite[] {
                         art.getSprite("left"), art.getSprite("left1"), art.getSprite("left2")
                     });
     private final Animation walkRight =
-            new Animation(
+            new FrameAnimation(
                     AnimationDuration.SLOW,
                     new Sprite[] {
                         art.getSprite("right"), art.getSprite("right1"), art.getSprite("right2")
@@ -101,11 +103,11 @@ public class ChickenFarmer extends Entity implements Player {
         switch (direction) {
             case NORTH -> {
                 setY(getY() - amount);
-                this.setSprite(art.getSprite("up"));
+                this.setSprite(SpriteHandles.CHICKEN_FARMER_UP);
             }
             case SOUTH -> {
                 setY(getY() + amount);
-                this.setSprite(art.getSprite("down"));
+                this.setSprite(SpriteHandles.CHICKEN_FARMER_DOWN);
             }
             case EAST -> {
                 setX(getX() + amount);
@@ -116,7 +118,7 @@ public class ChickenFarmer extends Entity implements Player {
                 this.setSprite(this.walkLeft);
             }
             default -> {
-                this.setSprite(art.getSprite("down"));
+                this.setSprite(SpriteHandles.CHICKEN_FARMER_DOWN);
             }
         }
     }
@@ -128,7 +130,7 @@ public class ChickenFarmer extends Entity implements Player {
      */
     @Override
     public void tick(EngineState state) {
-        this.setSprite(art.getSprite("down"));
+        this.setSprite(SpriteHandles.CHICKEN_FARMER_DOWN);
 
         // progress animations forward
         this.walkLeft.tick(state);
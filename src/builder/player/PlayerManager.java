@@ -152,4 +152,9 @@ public class PlayerManager implements Tickable, RenderableGroup {
     public List<Renderable> render() {
         return List.of(player);
     }
+
+    @Override
+    public void renderInto(List<Renderable> renderables) {
+        renderables.add(player);
+    }
 }
@@ -0,0 +1,32 @@
+package builder.ui;
+
+import engine.art.sprites.Sprite;
+import engine.timing.Animation;
+import engine.timing.AnimationDuration;
+
+/**
+ * An {@link Animation} that tells which of its frames it is showing, so that a {@link
+ * RenderSnapshot} can keep the frame shown when the snapshot was taken rather than the animation,
+ * which carries on changing as it is ticked.
+ */
+public class FrameAnimation extends Animation {
+
+    /**
+     * Construct an animation that shows each of the given frames for the given duration in turn.
+     *
+     * @param duration How long each frame is shown for.
+     * @param frames The frames of the animation, in order.
+     */
+    public FrameAnimation(AnimationDuration duration, Sprite[] frames) {
+        super(duration, frames);
+    }
+
+    /**
+     * Returns the frame the animation is currently showing.
+     *
+     * @return The current frame.
+     */
+    public Sprite currentFrame() {
+        return this.getSprite();
+    }
+}
@@ -0,0 +1,102 @@
+package builder.ui;
+
+import engine.art.sprites.Sprite;
+import engine.renderer.Renderable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The renderables of a game as they were at the end of one tick: the ID, position and sprite of
+ * each, in render order, copied so that they no longer change as the game is ticked.
+ *
+ * <p>A snapshot is immutable, so it can be handed from the thread ticking the game to the thread
+ * drawing it (see {@link builder.ThreadedGame}). A sprite that is a {@link FrameAnimation} is
+ * replaced by the frame it was showing; other sprites are kept as they are, as sprites do not
+ * change once loaded.
+ */
+public final class RenderSnapshot {
+
+    private final long tick;
+    private final List<Renderable> renderables;
+
+    private RenderSnapshot(long tick, List<Renderable> renderables) {
+        this.tick = tick;
+        this.renderables = renderables;
+    }
+
+    /**
+     * Takes a snapshot of the given renderables.
+     *
+     * @param tick the number of ticks the game had been ticked when the snapshot was taken
+     * @param renderables the renderables to copy, in render order
+     * @return the snapshot
+     */
+    public static RenderSnapshot of(long tick, List<? extends Renderable> renderables) {
+        List<Renderable> copies = new ArrayList<>(renderables.size());
+        for (int i = 0; i < renderables.size(); i++) {
+            Renderable renderable = renderables.get(i);
+            Sprite sprite = renderable.getSprite();
+            if (sprite instanceof FrameAnimation animation) {
+                sprite = animation.currentFrame();
+            }
+            copies.add(
+                    new Copy(renderable.getID(), renderable.getX(), renderable.getY(), sprite));
+        }
+        return new RenderSnapshot(tick, Collections.unmodifiableList(copies));
+    }
+
+    /**
+     * Gets the number of ticks the game had been ticked when the snapshot was taken.
+     *
+     * @return the tick of the snapshot
+     */
+    public long getTick() {
+        return tick;
+    }
+
+    /**
+     * Gets the copied renderables, in render order.
+     *
+     * @return a read-only list of the renderables
+     */
+    public List<Renderable> getRenderables() {
+        return renderables;
+    }
+
+    /** A renderable fixed at the ID, position and sprite it was copied with. */
+    private static final class Copy implements Renderable {
+        private final String id;
+        private final int x;
+        private final int y;
+        private final Sprite sprite;
+
+        private Copy(String id, int x, int y, Sprite sprite) {
+            this.id = id;
+            this.x = x;
+            this.y = y;
+            this.sprite = sprite;
+        }
+
+        @Override
+        public String getID() {
+            return id;
+        }
+
+        @Override
+        public int getX() {
+            return x;
+        }
+
+        @Override
+        public int getY() {
+            return y;
+        }
+
+        @Override
+        public Sprite getSprite() {
+            return sprite;
+        }
+    }
+}
@@ -17,4 +17,17 @@ public interface RenderableGroup {
      * @return A collection of renderables to display.
      */
     List<Renderable> render();
+
+    /**
+     * Append the renderables of this group to the given list, in the same order as {@link
+     * #render()} would return them.
+     *
+     * <p>Groups that are rendered every frame should override this to append their renderables
+     * directly, so that rendering into a list does not allocate an intermediate list per group.
+     *
+     * @param renderables The list to append the renderables to.
+     */
+    default void renderInto(List<Renderable> renderables) {
+        renderables.addAll(render());
+    }
 }
@@ -0,0 +1,94 @@
+package builder.ui;
+
+import engine.art.sprites.Sprite;
+import engine.art.sprites.SpriteGroup;
+
+import java.util.List;
+
+/**
+ * The sprites of {@link SpriteGallery} that entities switch between as they are ticked, each
+ * looked up by name once when the class is loaded.
+ *
+ * <p>Setting a sprite from here rather than with {@link SpriteGroup#getSprite(String)} skips
+ * hashing the sprite's name every tick. Each handle is the very sprite the group returns for that
+ * name, so entities render exactly as they would if they looked the sprite up themselves.
+ */
+public final class SpriteHandles {
+    // Player
+    /** The 'up' sprite of {@link SpriteGallery#chickenFarmer}. */
+    public static final Sprite CHICKEN_FARMER_UP = lookup(SpriteGallery.chickenFarmer, "up");
+
+    /** The 'down' sprite of {@link SpriteGallery#chickenFarmer}. */
+    public static final Sprite CHICKEN_FARMER_DOWN = lookup(SpriteGallery.chickenFarmer, "down");
+
+    // Resources
+    /**
+     * The sprites of {@link SpriteGallery#cabbage} for each growth state of a cabbage, from
+     * 'default' through 'budding', 'growing' and 'grown' to 'collectable'.
+     */
+    public static final List<Sprite> CABBAGE_GROWTH =
+            List.of(
+                    lookup(SpriteGallery.cabbage, "default"),
+                    lookup(SpriteGallery.cabbage, "budding"),
+                    lookup(SpriteGallery.cabbage, "growing"),
+                    lookup(SpriteGallery.cabbage, "grown"),
+                    lookup(SpriteGallery.cabbage, "collectable"));
+
+    /** The 'default' sprite of {@link SpriteGallery#rock}. */
+    public static final Sprite ORE_DEFAULT = lookup(SpriteGallery.rock, "default");
+
+    /** The 'damaged' sprite of {@link SpriteGallery#rock}. */
+    public static final Sprite ORE_DAMAGED = lookup(SpriteGallery.rock, "damaged");
+
+    /** The 'depleted' sprite of {@link SpriteGallery#rock}. */
+    public static final Sprite ORE_DEPLETED = lookup(SpriteGallery.rock, "depleted");
+
+    // Npcs
+    /** The 'default' sprite of {@link SpriteGallery#eagle}. */
+    public static final Sprite EAGLE_DEFAULT = lookup(SpriteGallery.eagle, "default");
+
+    /** The 'up' sprite of {@link SpriteGallery#eagle}. */
+    public static final Sprite EAGLE_UP = lookup(SpriteGallery.eagle, "up");
+
+    /** The 'down' sprite of {@link SpriteGallery#eagle}. */
+    public static final Sprite EAGLE_DOWN = lookup(SpriteGallery.eagle, "down");
+
+    /** The 'up' sprite of {@link SpriteGallery#pigeon}. */
+    public static final Sprite PIGEON_UP = lookup(SpriteGallery.pigeon, "up");
+
+    /** The 'down' sprite of {@link SpriteGallery#pigeon}. */
+    public static final Sprite PIGEON_DOWN = lookup(SpriteGallery.pigeon, "down");
+
+    /** The 'up' sprite of {@link SpriteGallery#magpie}. */
+    public static final Sprite MAGPIE_UP = lookup(SpriteGallery.magpie, "up");
+
+    /** The 'down' sprite of {@link SpriteGallery#magpie}. */
+    public static final Sprite MAGPIE_DOWN = lookup(SpriteGallery.magpie, "down");
+
+    /** The 'default' sprite of {@link SpriteGallery#bee}. */
+    public static final Sprite BEE_DEFAULT = lookup(SpriteGallery.bee, "default");
+
+    /** The 'up' sprite of {@link SpriteGallery#bee}. */
+    public static final Sprite BEE_UP = lookup(SpriteGallery.bee, "up");
+
+    /** The 'down' sprite of {@link SpriteGallery#bee}. */
+    public static final Sprite BEE_DOWN = lookup(SpriteGallery.bee, "down");
+
+    /** The 'left' sprite of {@link SpriteGallery#bee}. */
+    public static final Sprite BEE_LEFT = lookup(SpriteGallery.bee, "left");
+
+    /** The 'right' sprite of {@link SpriteGallery#bee}. */
+    public static final Sprite BEE_RIGHT = lookup(SpriteGallery.bee, "right");
+
+    private SpriteHandles() {}
+
+    /**
+     * Look up a sprite by name, failing when the class is loaded if the art has no such sprite.
+     *
+     * @param group The group of sprites to look in.
+     * @param name The name of the sprite within the group.
+     */
+    private static Sprite lookup(SpriteGroup group, String name) {
+        return group.getSprite(name);
+    }
+}
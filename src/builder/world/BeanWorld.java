@@ -2,14 +2,20 @@ package builder.world;
 
 import builder.GameState;
 import builder.Tickable;
+import builder.entities.resources.Cabbage;
+import builder.entities.resources.Grower;
 import builder.entities.tiles.Tile;
+import builder.entities.tiles.TileListener;
 import builder.ui.RenderableGroup;
 
 import engine.EngineState;
+import engine.game.Entity;
 import engine.renderer.Dimensions;
 import engine.renderer.Renderable;
 
+import java.io.Reader;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.function.Predicate;
 
@@ -19,12 +25,67 @@ import java.util.function.Predicate;
  * <p>A world consists of a grid of tiles. The tiles must be updated by the world each tick and
  * appropriately rendered via the render method.
  *
+ * <p>Tiles are indexed by the grid cell they occupy (see {@link CellGrid}) so that {@link
+ * #tilesAtPosition(int, int, Dimensions)} does not depend on the size of the world. The index is
+ * built for the tile size of the dimensions the world is constructed with, or of the first
+ * dimensions it is queried with, and rebuilt if queried with a different tile size.
+ *
+ * <p>The world listens to each placed tile (see {@link TileListener}) to keep a live index of the
+ * tiles with a cabbage stacked on them, see {@link #tilesWithCabbage()}, and the set of active
+ * tiles (see {@link Tile#isActive()}). Only active tiles are ticked, so the cost of a tick depends
+ * on how much is happening in the world rather than its size.
+ *
+ * <p>Cabbages stacked on the world's tiles are grown by the world (see {@link Grower}) from its
+ * tick count, in a queue of the cabbages still growing (see {@link CropField}), so a tile with
+ * only a growing or grown cabbage on it is not ticked until the cabbage is marked for removal.
+ *
+ * <p>Tiles marked for removal (see {@link Tile#markForRemoval()}) are queued and removed from the
+ * world at the start of the next tick. Each is found in the world's lists by its placement order,
+ * so removing tiles does not check every tile. A tile replaced with {@link #replace(Tile, Tile)} is swapped for its
+ * replacement straight away in the tiles at its position.
+ *
+ * <p>A compact world (see {@link WorldBuilder#compactFromReader(Dimensions, Reader)}) stores its
+ * ground as {@link Terrain}, one byte per cell, and only constructs the tile of a cell when it is
+ * needed: when the tiles at the cell's position are queried, e.g. to walk over, till or plant on
+ * it, or when another tile is placed on the cell. Tiles are then placed as if the whole ground had
+ * been placed up front, so a compact world behaves like a world loaded with {@link
+ * WorldBuilder#fromTiles(Dimensions, List)}.
+ *
+ * <p>The renderables of the world are collected once and reused by every
+ * {@link #render()} until a tile is placed, replaced, removed or has an entity stacked on or
+ * removed from it. Tiles and entities are rendered by reference, so a change of sprite (e.g.
+ * {@link Tile#updateSprite(String)}) shows up without collecting the renderables again.
+ *
  * @test
  * @stage2
  */
 public class BeanWorld implements RenderableGroup, Tickable, World {
 
     private final List<Tile> tiles = new ArrayList<>();
+    private CellGrid cells;
+
+    /** Tiles with a cabbage stacked on them, kept in placement order. */
+    private final List<Tile> cabbageTiles = new ArrayList<>();
+    private final List<Slot> cabbageSlots = new ArrayList<>();
+    private final List<Tile> cabbageTilesView = Collections.unmodifiableList(cabbageTiles);
+    private final CropField crops = new CropField();
+    private int placements = 0;
+
+    /** Tiles that need to be ticked, kept in placement order. */
+    private final List<Slot> activeSlots = new ArrayList<>();
+    /** Index into activeSlots of the tile being ticked, or -1 outside of a tick. */
+    private int ticking = -1;
+    private int ticks = 0;
+
+    /** Tiles marked for removal, to be removed at the start of the next tick. */
+    private final List<Slot> removals = new ArrayList<>();
+
+    /** The ground of a compact world, or null if every tile has been placed. */
+    private Terrain terrain;
+
+    /** The renderables of the whole world, reused by every render until the world changes. */
+    private final List<Renderable> layer = new ArrayList<>();
+    private boolean layerValid = false;
 
     /**
      * Construct a new empty world with no tiles.
@@ -35,6 +96,33 @@ public class BeanWorld implements RenderableGroup, Tickable, World {
      */
     BeanWorld() {}
 
+    /**
+     * Construct a new empty world with no tiles, indexed for the tile size of the given dimensions.
+     *
+     * @param dimensions The dimensions of the world.
+     */
+    BeanWorld(Dimensions dimensions) {
+        this.cells = new CellGrid(dimensions.tileSize());
+    }
+
+    /**
+     * Construct a new compact world whose ground is the given terrain.
+     *
+     * @param dimensions The dimensions of the world.
+     * @param terrain The ground of the world, which is owned by the world from now on.
+     */
+    BeanWorld(Dimensions dimensions, Terrain terrain) {
+        this(dimensions);
+        this.terrain = terrain;
+        // ground tiles take the places they would have had if placed up front by fromTiles
+        this.placements = terrain.size();
+        for (int index = terrain.size() - 1; index >= 0; index--) {
+            if (!terrain.isStatic(index)) {
+                register(terrain.materialise(index), terrain.size() - 1 - index, false);
+            }
+        }
+    }
+
     /**
      * Finds all tiles that contain the given pixel coordinates.
      *
@@ -45,37 +133,274 @@ public class BeanWorld implements RenderableGroup, Tickable, World {
      */
     @Override
     public List<Tile> tilesAtPosition(int x, int y, Dimensions dimensions) {
-        List<Tile> result = new ArrayList<>();
         int gridX = dimensions.pixelToTile(x);
         int gridY = dimensions.pixelToTile(y);
-        for (Tile tile : tiles) {
-            int tileX = dimensions.pixelToTile(tile.getX());
-            int tileY = dimensions.pixelToTile(tile.getY());
-            if (gridX == tileX && gridY == tileY) {
-                result.add(tile);
+        if (terrain != null) {
+            materialise(gridX, gridY);
+        }
+        return new ArrayList<>(cellsFor(dimensions).stackAt(gridX, gridY));
+    }
+
+    /** Construct and place the ground tile of a cell of the terrain, if it has not been yet. */
+    private void materialise(int column, int row) {
+        int index = terrain.indexOf(column, row);
+        if (index >= 0 && terrain.tileAt(index) == null && !terrain.isRemoved(index)) {
+            register(terrain.materialise(index), terrain.size() - 1 - index, false);
+        }
+    }
+
+    /** Construct and place the ground tile of every cell of the terrain. */
+    private void materialiseAll() {
+        for (int index = terrain.size() - 1; index >= 0; index--) {
+            if (terrain.tileAt(index) == null && !terrain.isRemoved(index)) {
+                register(terrain.materialise(index), terrain.size() - 1 - index, false);
             }
         }
+    }
+
+    /**
+     * Returns every placed tile, with ground tiles of the terrain (in the order they would have
+     * been placed) before other tiles.
+     */
+    private List<Tile> placedTiles() {
+        if (terrain == null) {
+            return tiles;
+        }
+        List<Tile> result = new ArrayList<>();
+        for (int index = terrain.size() - 1; index >= 0; index--) {
+            if (terrain.tileAt(index) != null) {
+                result.add(terrain.tileAt(index));
+            }
+        }
+        result.addAll(tiles);
         return result;
     }
 
+    /**
+     * Returns the cell index for the tile size of the given dimensions, (re)building it from the
+     * placed tiles if there is no index yet or it was built for a different tile size.
+     */
+    private CellGrid cellsFor(Dimensions dimensions) {
+        if (cells == null || cells.tileSize() != dimensions.tileSize()) {
+            cells = new CellGrid(dimensions.tileSize());
+            for (Tile tile : placedTiles()) {
+                cells.add(tile);
+            }
+        }
+        return cells;
+    }
+
+    /**
+     * Return all tiles in the world.
+     *
+     * <p>In a compact world, this constructs the tile of every cell that has not been needed yet.
+     *
+     * @return All tiles in the world.
+     */
     @Override
     public List<Tile> allTiles() {
-        return new ArrayList<>(tiles);
+        if (terrain != null) {
+            materialiseAll();
+        }
+        return new ArrayList<>(placedTiles());
     }
 
     @Override
     public void place(Tile tile) {
+        if (terrain != null) {
+            // keep the ground tile below the new tile in the cell's stack
+            materialise(tile.getX() / cells.tileSize(), tile.getY() / cells.tileSize());
+        }
         this.tiles.add(tile);
+        register(tile, placements++, false);
+    }
+
+    /**
+     * Replace a tile in the world with a new tile at the same position.
+     *
+     * <p>The replaced tile is marked for removal and the replacement takes its place in the tiles
+     * at its position straight away. The replacement is otherwise treated as a newly placed tile,
+     * and the replaced tile is removed from the world at the start of the next tick.
+     *
+     * <p>If the tile is not in this world, it is marked for removal and the replacement is placed.
+     *
+     * @param tile The tile to replace.
+     * @param replacement The tile to place instead.
+     * @requires replacement has the same position as tile
+     */
+    @Override
+    public void replace(Tile tile, Tile replacement) {
+        tile.markForRemoval();
+        boolean swapped = false;
+        if (tile.getListener() instanceof Slot slot && slot.belongsTo(this) && cells != null) {
+            swapped = cells.replace(tile, replacement);
+        }
+        if (!swapped) {
+            place(replacement);
+            return;
+        }
+        this.tiles.add(replacement);
+        register(replacement, placements++, true);
+    }
+
+    /**
+     * Remove the tiles that have been marked for removal since the last compaction from the tiles
+     * list, the indexes and the terrain.
+     */
+    private void compact() {
+        if (removals.isEmpty()) {
+            return;
+        }
+        for (Slot slot : removals) {
+            if (slot.cabbages > 0) {
+                unindexCabbageTile(slot);
+                for (Entity entity : slot.tile.getStackedEntities()) {
+                    if (entity instanceof Cabbage cabbage && cabbage.getGrower() == slot) {
+                        crops.remove(cabbage);
+                        cabbage.setGrower(null);
+                    }
+                }
+            }
+            Tile tile = slot.tile;
+            if (cells != null) {
+                cells.remove(tile);
+            }
+            if (terrain != null) {
+                int index =
+                        terrain.indexOf(
+                                tile.getX() / cells.tileSize(), tile.getY() / cells.tileSize());
+                if (index >= 0 && terrain.tileAt(index) == tile) {
+                    terrain.remove(index);
+                }
+            }
+            int index = indexOfTile(slot);
+            if (index >= 0) {
+                tiles.remove(index);
+            }
+            if (slot.active) {
+                slot.active = false;
+                activeSlots.remove(insertionPoint(activeSlots, slot));
+            }
+            tile.setListener(null);
+        }
+        layerValid = false;
+        removals.clear();
+    }
+
+    /**
+     * Index a tile that has been placed and start listening to it.
+     *
+     * @param indexed Whether the tile has already been put in the cell index.
+     */
+    private void register(Tile tile, int order, boolean indexed) {
+        if (this.cells != null && !indexed) {
+            this.cells.add(tile);
+        }
+        layerValid = false;
+        Slot slot = new Slot(tile, order);
+        tile.setListener(slot);
+        for (Entity entity : tile.getStackedEntities()) {
+            slot.stacked(tile, entity);
+        }
+        if (tile.isActive()) {
+            activate(slot);
+        }
+    }
+
+    /**
+     * Return all tiles that have a {@link Cabbage} stacked on them, in placement order.
+     *
+     * <p>The result is a read-only view of an index that is updated as cabbages are placed and
+     * cleaned up, so it must not be held across ticks.
+     *
+     * @return All tiles with a cabbage stacked on them.
+     */
+    @Override
+    public List<Tile> tilesWithCabbage() {
+        return cabbageTilesView;
+    }
+
+    private void indexCabbageTile(Slot slot) {
+        int index = insertionPoint(cabbageSlots, slot);
+        cabbageSlots.add(index, slot);
+        cabbageTiles.add(index, slot.tile);
+    }
+
+    private void unindexCabbageTile(Slot slot) {
+        int index = insertionPoint(cabbageSlots, slot);
+        cabbageSlots.remove(index);
+        cabbageTiles.remove(index);
+    }
+
+    /**
+     * Add a tile to the active set so that it is ticked. If a tick is in progress and the tile
+     * comes after the tile being ticked, it is ticked later in the same tick, as if every tile were
+     * ticked.
+     */
+    private void activate(Slot slot) {
+        if (slot.active) {
+            return;
+        }
+        slot.active = true;
+        int index = insertionPoint(activeSlots, slot);
+        activeSlots.add(index, slot);
+        if (ticking >= 0 && index <= ticking) {
+            ticking++;
+        }
+    }
+
+    /**
+     * Returns the index of a slot's tile in the tiles list, which is in placement order, or -1 if
+     * the tile is not in the list, e.g. because it is a ground tile of the terrain.
+     */
+    private int indexOfTile(Slot slot) {
+        int low = 0;
+        int high = tiles.size() - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int order = ((Slot) tiles.get(middle).getListener()).order;
+            if (order < slot.order) {
+                low = middle + 1;
+            } else if (order > slot.order) {
+                high = middle - 1;
+            } else {
+                return tiles.get(middle) == slot.tile ? middle : -1;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the index at which the slot should be inserted to keep slots in placement order,
+     * which is the index of the slot itself if it is in the list.
+     */
+    private static int insertionPoint(List<Slot> slots, Slot slot) {
+        int low = 0;
+        int high = slots.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (slots.get(middle).order < slot.order) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
     }
 
     /**
      * A flexible selector method to allow accessing tiles that meet specific conditions.
      *
+     * <p>In a compact world, this constructs the tile of every cell that has not been needed yet.
+     *
      * @param filter predicate used to filter through the tiles to find those relevant.
      */
     public List<Tile> tileSelector(Predicate<Tile> filter) {
+        if (terrain != null) {
+            materialiseAll();
+        }
         List<Tile> result = new ArrayList<>();
-        for (Tile tile : tiles) {
+        for (Tile tile : placedTiles()) {
             if (filter.test(tile)) {
                 result.add(tile);
             }
@@ -84,8 +409,11 @@ public class BeanWorld implements RenderableGroup, Tickable, World {
     }
 
     /**
-     * Progress the state of the world. The world is progressed by calling the {@link
-     * Tile#tick(EngineState)} method on every world tile.
+     * Progress the state of the world. Tiles that have been marked for removal since the last tick
+     * are first removed from the world. The world is then progressed by calling the {@link
+     * Tile#tick(EngineState)} method on every active world tile (see {@link Tile#isActive()}), in
+     * the order the tiles were placed. Inactive tiles have nothing to progress and are skipped.
+     * The cabbages that grow on this tick are grown first.
      *
      * @param state The state of the engine, including the mouse, keyboard information and
      *     dimension. Useful for processing keyboard presses or mouse movement.
@@ -94,9 +422,20 @@ public class BeanWorld implements RenderableGroup, Tickable, World {
      */
     @Override
     public void tick(EngineState state, GameState game) {
-        for (Tile tile : this.tiles) {
-            tile.tick(state);
+        compact();
+        crops.advance(ticks);
+        for (ticking = 0; ticking < activeSlots.size(); ) {
+            Slot slot = activeSlots.get(ticking);
+            slot.tile.tick(state);
+            if (slot.tile.isActive()) {
+                ticking++;
+            } else {
+                slot.active = false;
+                activeSlots.remove(ticking);
+            }
         }
+        ticking = -1;
+        ticks++;
     }
 
     /**
@@ -108,14 +447,125 @@ public class BeanWorld implements RenderableGroup, Tickable, World {
      *
      * <p>Otherwise, any ordering is appropriate.
      *
+     * <p>The renderables are copied from a layer that is only collected again once the world has
+     * changed (see {@link BeanWorld}).
+     *
      * @return The list of renderables required to draw the world to the screen.
      */
     @Override
     public List<Renderable> render() {
         List<Renderable> result = new ArrayList<>();
-        for (Tile tile : tiles) {
-            result.addAll(tile.render());
-        }
+        renderInto(result);
         return result;
     }
+
+    /**
+     * Append the renderables of the world to the given list, in the order described by {@link
+     * #render()}, without allocating any intermediate lists.
+     *
+     * @param result The list to append the renderables to.
+     */
+    @Override
+    public void renderInto(List<Renderable> result) {
+        if (!layerValid) {
+            layer.clear();
+            renderAll(layer);
+            layerValid = true;
+        }
+        for (int i = 0; i < layer.size(); i++) {
+            result.add(layer.get(i));
+        }
+    }
+
+    /** Add the renderables of every tile and stacked entity in the world to the result. */
+    private void renderAll(List<Renderable> result) {
+        if (terrain != null) {
+            renderTerrain(result);
+            return;
+        }
+        for (int i = 0; i < tiles.size(); i++) {
+            tiles.get(i).renderInto(result);
+        }
+    }
+
+    /**
+     * Add the renderables of a compact world to the result: each cell of the terrain in the order
+     * its tile would have been placed, drawn by its tile if it has one, then every other tile.
+     */
+    private void renderTerrain(List<Renderable> result) {
+        for (int row = terrain.rows() - 1; row >= 0; row--) {
+            for (int column = terrain.columns() - 1; column >= 0; column--) {
+                int index = terrain.indexOf(column, row);
+                Tile tile = terrain.tileAt(index);
+                if (terrain.isRemoved(index)) {
+                    continue;
+                }
+                if (tile == null) {
+                    result.add(terrain.renderableAt(index));
+                } else {
+                    tile.renderInto(result);
+                }
+            }
+        }
+        for (int i = 0; i < tiles.size(); i++) {
+            tiles.get(i).renderInto(result);
+        }
+    }
+
+    /** The world's bookkeeping for a placed tile, notified of changes to that tile. */
+    private final class Slot implements TileListener, Grower {
+        private final Tile tile;
+        private final int order;
+        private int cabbages = 0;
+        private boolean active = false;
+        /** Whether the tile has been marked for removal, and so queued for removal. */
+        private boolean removing = false;
+
+        private Slot(Tile tile, int order) {
+            this.tile = tile;
+            this.order = order;
+        }
+
+        @Override
+        public void stacked(Tile tile, Entity entity) {
+            if (entity instanceof Cabbage cabbage) {
+                if (cabbages++ == 0) {
+                    indexCabbageTile(this);
+                }
+                cabbage.setGrower(this);
+                crops.plant(cabbage, ticks);
+            }
+            layerValid = false;
+            if (tile.isActive()) {
+                activate(this);
+            }
+        }
+
+        @Override
+        public void unstacked(Tile tile, Entity entity) {
+            if (entity instanceof Cabbage && --cabbages == 0) {
+                unindexCabbageTile(this);
+            }
+            layerValid = false;
+        }
+
+        @Override
+        public void markedForRemoval(Tile tile) {
+            if (!removing) {
+                removing = true;
+                removals.add(this);
+            }
+            activate(this);
+        }
+
+        @Override
+        public void markedForRemoval(Cabbage cabbage) {
+            // the tile removes the cabbage when next ticked
+            activate(this);
+        }
+
+        private boolean belongsTo(BeanWorld world) {
+            return BeanWorld.this == world;
+        }
+    }
 }
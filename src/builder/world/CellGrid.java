@@ -0,0 +1,151 @@
+package builder.world;
+
+import builder.entities.tiles.Tile;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A grid of per-cell tile stacks used by {@link BeanWorld} to look up the tiles at a grid position
+ * without scanning every tile in the world.
+ *
+ * <p>A tile belongs to the cell containing its pixel position, i.e. column {@code x / tileSize} and
+ * row {@code y / tileSize}, matching {@link engine.renderer.Dimensions#pixelToTile(int)}. Tiles do
+ * not move once placed, so a tile stays in the cell it was added to until it is removed or
+ * replaced.
+ *
+ * <p>The grid grows as tiles are added beyond its current bounds.
+ */
+class CellGrid {
+
+    private static final List<Tile> EMPTY = List.of();
+
+    private final int tileSize;
+    private int columns;
+    private int rows;
+    private List<Tile>[] cells;
+
+    /**
+     * Construct an empty grid for tiles of the given size.
+     *
+     * @param tileSize The width and height of a tile in pixels.
+     * @requires tileSize > 0
+     */
+    CellGrid(int tileSize) {
+        this.tileSize = tileSize;
+        this.cells = newCells(0);
+    }
+
+    /**
+     * Returns the size of the tiles this grid was built for.
+     *
+     * @return The width and height of a cell in pixels.
+     */
+    int tileSize() {
+        return tileSize;
+    }
+
+    /**
+     * Add a tile to the top of the stack of the cell containing its position.
+     *
+     * @param tile The tile to add.
+     */
+    void add(Tile tile) {
+        int column = tile.getX() / tileSize;
+        int row = tile.getY() / tileSize;
+        ensureCapacity(column, row);
+        int index = row * columns + column;
+        List<Tile> stack = cells[index];
+        if (stack == null) {
+            stack = new ArrayList<>(1);
+            cells[index] = stack;
+        }
+        stack.add(tile);
+    }
+
+    /**
+     * Remove a tile from the stack of the cell containing its position.
+     *
+     * @param tile The tile to remove.
+     * @return true if the tile was in the grid, false otherwise.
+     */
+    boolean remove(Tile tile) {
+        List<Tile> stack = stackOf(tile);
+        int index = indexOf(stack, tile);
+        if (index < 0) {
+            return false;
+        }
+        stack.remove(index);
+        return true;
+    }
+
+    /**
+     * Replace a tile with another tile at the same position in the stack of the cell containing
+     * the tile's position.
+     *
+     * @param tile The tile to replace.
+     * @param replacement The tile to take its place.
+     * @return true if the tile was in the grid and has been replaced, false otherwise.
+     * @requires replacement is in the same cell as tile
+     */
+    boolean replace(Tile tile, Tile replacement) {
+        List<Tile> stack = stackOf(tile);
+        int index = indexOf(stack, tile);
+        if (index < 0) {
+            return false;
+        }
+        stack.set(index, replacement);
+        return true;
+    }
+
+    private List<Tile> stackOf(Tile tile) {
+        return stackAt(tile.getX() / tileSize, tile.getY() / tileSize);
+    }
+
+    private static int indexOf(List<Tile> stack, Tile tile) {
+        for (int i = 0; i < stack.size(); i++) {
+            if (stack.get(i) == tile) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the stack of tiles in the given cell, in the order they were added.
+     *
+     * <p>The returned list is owned by the grid and must not be modified or retained.
+     *
+     * @param column The column of the cell.
+     * @param row The row of the cell.
+     * @return The tiles in the cell, or an empty list if there are none.
+     */
+    List<Tile> stackAt(int column, int row) {
+        if (column < 0 || row < 0 || column >= columns || row >= rows) {
+            return EMPTY;
+        }
+        List<Tile> stack = cells[row * columns + column];
+        return stack == null ? EMPTY : stack;
+    }
+
+    private void ensureCapacity(int column, int row) {
+        if (column < columns && row < rows) {
+            return;
+        }
+        // grow geometrically so worlds loaded a row at a time are not copied once per row
+        int newColumns = column < columns ? columns : Math.max(column + 1, columns * 2);
+        int newRows = row < rows ? rows : Math.max(row + 1, rows * 2);
+        List<Tile>[] resized = newCells(newColumns * newRows);
+        for (int r = 0; r < rows; r++) {
+            System.arraycopy(cells, r * columns, resized, r * newColumns, columns);
+        }
+        this.cells = resized;
+        this.columns = newColumns;
+        this.rows = newRows;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Tile>[] newCells(int size) {
+        return (List<Tile>[]) new List<?>[size];
+    }
+}
@@ -0,0 +1,123 @@
+package builder.world;
+
+import builder.entities.resources.Cabbage;
+
+import engine.timing.TimerDuration;
+
+import java.util.Arrays;
+
+/**
+ * The growing cabbages of a {@link BeanWorld}, grown from the world's tick count rather than each
+ * cabbage ticking its own timer.
+ *
+ * <p>A cabbage planted on world tick {@code p} is first progressed on that tick, so its own timer
+ * would finish, and the cabbage grow, on ticks {@code p + 100k - 1} for each of its growth states
+ * {@code k}. Cabbages are kept in a queue in the order they were planted, alongside their
+ * planting ticks; as the planting ticks never decrease, the cabbages growing on a tick are found
+ * with a binary search for each growth state. A cabbage leaves the queue once it is fully grown,
+ * so the queue only holds the cabbages planted in the last few hundred ticks, and a fully grown
+ * cabbage costs nothing per tick however many there are.
+ */
+class CropField {
+
+    /** The number of ticks between each growth state of a cabbage. */
+    private static final int GROWTH_TICKS = TimerDuration.SHORT.getDuration();
+    /** The number of ticks from planting a cabbage until it is fully grown. */
+    private static final int GROWN_TICKS = Cabbage.GROWN * GROWTH_TICKS;
+
+    private Cabbage[] crops = new Cabbage[16];
+    private int[] planted = new int[16];
+    /** The index of the first cabbage still growing, and one past the last planted cabbage. */
+    private int head = 0;
+    private int tail = 0;
+
+    /**
+     * Construct an empty field.
+     */
+    CropField() {}
+
+    /**
+     * Plant a cabbage to grow from the given tick on.
+     *
+     * @param cabbage The cabbage to grow.
+     * @param tick The first world tick the cabbage is progressed on.
+     * @requires tick is at least the tick of every cabbage planted before
+     */
+    void plant(Cabbage cabbage, int tick) {
+        if (tail == crops.length) {
+            if (head > crops.length / 2) {
+                compact();
+            } else {
+                crops = Arrays.copyOf(crops, crops.length * 2);
+                planted = Arrays.copyOf(planted, planted.length * 2);
+            }
+        }
+        crops[tail] = cabbage;
+        planted[tail] = tick;
+        tail++;
+    }
+
+    /**
+     * Stop growing a cabbage, e.g. because the tile it is on has been removed from the world.
+     *
+     * @param cabbage The cabbage to stop growing.
+     */
+    void remove(Cabbage cabbage) {
+        for (int i = head; i < tail; i++) {
+            if (crops[i] == cabbage) {
+                crops[i] = null;
+            }
+        }
+    }
+
+    /**
+     * Grow each cabbage whose own timer would have finished on the given world tick, skipping
+     * cabbages marked for removal, and drop the cabbages that have finished growing.
+     *
+     * @param tick The world tick being progressed.
+     */
+    void advance(int tick) {
+        // a cabbage planted on p last grows on p + GROWN_TICKS - 1
+        while (head < tail && planted[head] < tick + 1 - GROWN_TICKS) {
+            crops[head++] = null;
+        }
+        for (int stage = 1; stage <= Cabbage.GROWN; stage++) {
+            int plantedOn = tick + 1 - stage * GROWTH_TICKS;
+            for (int i = firstPlantedOn(plantedOn); i < tail && planted[i] == plantedOn; i++) {
+                Cabbage cabbage = crops[i];
+                if (cabbage != null && !cabbage.isMarkedForRemoval()) {
+                    cabbage.grow();
+                }
+            }
+        }
+        if (head == tail) {
+            head = 0;
+            tail = 0;
+        }
+    }
+
+    /** Returns the index of the first queued cabbage planted on or after the given tick. */
+    private int firstPlantedOn(int tick) {
+        int low = head;
+        int high = tail;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (planted[middle] < tick) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /** Moves the queued cabbages to the start of the arrays. */
+    private void compact() {
+        int size = tail - head;
+        System.arraycopy(crops, head, crops, 0, size);
+        System.arraycopy(planted, head, planted, 0, size);
+        Arrays.fill(crops, size, tail, null);
+        head = 0;
+        tail = size;
+    }
+}
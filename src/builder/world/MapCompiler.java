@@ -0,0 +1,151 @@
+package builder.world;
+
+import builder.entities.tiles.TileFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Compiles text encoded worlds (.map files) into the binary map format (.bmap files) read by
+ * {@link WorldBuilder#fromBinaryFile(engine.renderer.Dimensions, String)}.
+ *
+ * <p>A binary map is a header followed by the tiles of the world. The header is the magic number
+ * {@value #MAGIC} ("BMAP"), a two byte format version ({@value #VERSION}), then the number of
+ * columns and the number of rows as four byte integers, all big-endian. The tiles follow as one
+ * byte per tile in row-major order, each byte being the tile's symbol in the text encoding (see
+ * {@link TileFactory#fromSymbol(int, int, char)}).
+ */
+public class MapCompiler {
+
+    /** The first four bytes of every binary map, "BMAP" in ASCII. */
+    static final int MAGIC = 0x424D4150;
+    /** The version of the binary map format written by this compiler. */
+    static final short VERSION = 1;
+    /** The size of the header in bytes. */
+    static final int HEADER_SIZE = 14;
+
+    /**
+     * Construct a new map compiler.
+     */
+    public MapCompiler() {}
+
+    /**
+     * Compile the text encoding of a world into a binary map.
+     *
+     * <p>The text may describe a world of any size, but every line must have the same number of
+     * characters. Only a binary map matching the dimensions it is loaded with can be loaded (see
+     * {@link WorldBuilder#fromBinaryFile(engine.renderer.Dimensions, String)}). The reader is not
+     * closed.
+     *
+     * @param map A reader containing the text encoding of a world.
+     * @param out The stream to write the binary map to.
+     * @throws IOException If the map cannot be read or the binary map cannot be written.
+     * @throws WorldLoadException If the text is empty, the lines have different lengths, or any
+     *     character doesn't correspond to a tile according to {@link TileFactory#fromSymbol(int,
+     *     int, char)}.
+     */
+    public static void compile(Reader map, OutputStream out)
+            throws IOException, WorldLoadException {
+        RowReader rows = new RowReader(map);
+        ByteArrayOutputStream tiles = new ByteArrayOutputStream();
+        boolean[] known = new boolean[128];
+        int columns = -1;
+        int row = 0;
+        for (; rows.next(); row++) {
+            if (columns == -1) {
+                columns = rows.length();
+                if (columns == 0) {
+                    break;
+                }
+            }
+            if (rows.length() != columns) {
+                throw new WorldLoadException(
+                        "Expected "
+                                + columns
+                                + " characters to match the first line but got "
+                                + rows.length(),
+                        row);
+            }
+            char[] symbols = rows.row();
+            for (int col = 0; col < columns; col++) {
+                char symbol = symbols[col];
+                if (symbol >= known.length || !known[symbol]) {
+                    try {
+                        TileFactory.fromSymbol(0, 0, symbol);
+                    } catch (IllegalArgumentException e) {
+                        throw new WorldLoadException(
+                                "Unknown symbol: '" + symbol + "'", row, col);
+                    }
+                    known[symbol] = true;
+                }
+                tiles.write(symbol);
+            }
+        }
+        if (columns <= 0) {
+            throw new WorldLoadException("Expected at least one tile but the world is empty");
+        }
+
+        DataOutputStream data = new DataOutputStream(out);
+        data.writeInt(MAGIC);
+        data.writeShort(VERSION);
+        data.writeInt(columns);
+        data.writeInt(row);
+        tiles.writeTo(data);
+        data.flush();
+    }
+
+    /**
+     * Compile a .map file into a binary map file, replacing the binary map file if it exists.
+     *
+     * @param mapFile The path of the text encoded world.
+     * @param binaryFile The path to write the binary map to.
+     * @throws IOException If the map cannot be read or the binary map cannot be written.
+     * @throws WorldLoadException If the text encoding is invalid (see {@link #compile(Reader,
+     *     OutputStream)}).
+     */
+    public static void compile(Path mapFile, Path binaryFile)
+            throws IOException, WorldLoadException {
+        try (Reader map = Files.newBufferedReader(mapFile);
+                OutputStream out = Files.newOutputStream(binaryFile)) {
+            compile(map, out);
+        }
+    }
+
+    /**
+     * Compile .map files into .bmap files alongside them.
+     *
+     * @param args The .map files, or directories of .map files, to compile. Defaults to the test
+     *     maps in resources/testmaps.
+     * @throws IOException If a map cannot be read or a binary map cannot be written.
+     * @throws WorldLoadException If a map is invalid.
+     */
+    public static void main(String[] args) throws IOException, WorldLoadException {
+        List<Path> maps = new ArrayList<>();
+        for (String arg : args.length == 0 ? new String[] {"resources/testmaps"} : args) {
+            Path path = Path.of(arg);
+            if (Files.isDirectory(path)) {
+                try (Stream<Path> files = Files.list(path)) {
+                    files.filter(file -> file.toString().endsWith(".map"))
+                            .sorted()
+                            .forEach(maps::add);
+                }
+            } else {
+                maps.add(path);
+            }
+        }
+        for (Path map : maps) {
+            String name = map.getFileName().toString().replaceFirst("\\.map$", "") + ".bmap";
+            Path binary = map.resolveSibling(name);
+            compile(map, binary);
+            System.out.println("Compiled " + map + " to " + binary);
+        }
+    }
+}
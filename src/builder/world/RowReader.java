@@ -0,0 +1,122 @@
+package builder.world;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Arrays;
+
+/**
+ * Reads the rows of a text encoded world one at a time into a reused buffer, so that a world can
+ * be loaded without holding its whole text in memory.
+ *
+ * <p>Rows are separated as by {@link java.io.BufferedReader#readLine()}, i.e. by a line feed, a
+ * carriage return, or a carriage return followed by a line feed. Blank rows at the end of the text
+ * are ignored, like {@link String#split(String)} ignores trailing empty strings.
+ */
+final class RowReader {
+
+    private final Reader reader;
+    private final char[] input = new char[8192];
+    private int inputLength = 0;
+    private int inputPosition = 0;
+    private boolean skipLineFeed = false;
+
+    private char[] row = new char[64];
+    private int length = 0;
+    private boolean blank = false;
+    /** The number of blank rows read ahead of the row in the buffer. */
+    private int blanks = 0;
+    /** Whether a non-blank row has been read ahead into the buffer. */
+    private boolean buffered = false;
+
+    /**
+     * Construct a row reader over the given reader. The reader is not closed by the row reader.
+     *
+     * @param reader The reader containing a text encoded world.
+     */
+    RowReader(Reader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * Advance to the next row.
+     *
+     * @return true if there was another row, false if the end of the text has been reached.
+     * @throws IOException If the underlying reader cannot be read.
+     */
+    boolean next() throws IOException {
+        if (blanks > 0) {
+            blanks--;
+            blank = true;
+            return true;
+        }
+        if (buffered) {
+            buffered = false;
+            blank = false;
+            return true;
+        }
+        while (readLine()) {
+            if (length > 0) {
+                blank = blanks > 0;
+                if (blank) {
+                    blanks--;
+                    buffered = true;
+                }
+                return true;
+            }
+            blanks++;
+        }
+        return false;
+    }
+
+    /**
+     * Returns the characters of the current row. Only the first {@link #length()} characters are
+     * part of the row, and the buffer is overwritten by the next call to {@link #next()}.
+     *
+     * @return The buffer holding the current row.
+     */
+    char[] row() {
+        return row;
+    }
+
+    /**
+     * Returns the number of characters in the current row.
+     *
+     * @return The length of the current row.
+     */
+    int length() {
+        return blank ? 0 : length;
+    }
+
+    private boolean readLine() throws IOException {
+        length = 0;
+        boolean read = false;
+        while (true) {
+            if (inputPosition == inputLength) {
+                inputLength = Math.max(0, reader.read(input, 0, input.length));
+                inputPosition = 0;
+                if (inputLength == 0) {
+                    return read;
+                }
+            }
+            char symbol = input[inputPosition++];
+            if (skipLineFeed) {
+                skipLineFeed = false;
+                if (symbol == '\n') {
+                    continue;
+                }
+            }
+            read = true;
+            if (symbol == '\n') {
+                return true;
+            }
+            if (symbol == '\r') {
+                skipLineFeed = true;
+                return true;
+            }
+            if (length == row.length) {
+                row = Arrays.copyOf(row, length * 2);
+            }
+            row[length++] = symbol;
+        }
+    }
+}
@@ -0,0 +1,262 @@
+package builder.world;
+
+import builder.entities.tiles.Tile;
+import builder.entities.tiles.TileFactory;
+
+import engine.art.sprites.Sprite;
+import engine.renderer.Dimensions;
+import engine.renderer.Renderable;
+
+import java.util.Arrays;
+import java.util.UUID;
+
+/**
+ * The ground of a compact world, storing one byte per cell rather than one {@link Tile} per cell.
+ *
+ * <p>Each cell stores the symbol of its tile (see {@link TileFactory#fromSymbol(int, int, char)}).
+ * The tile of a cell is only constructed when it is {@link #materialise(int) materialised}; until
+ * then the cell is rendered by a lightweight {@link Renderable} using the sprite a new tile of that
+ * kind would have. Kinds of tile that start with stacked entities, such as ore veins, are not
+ * static (see {@link #isStatic(int)}) and must be materialised up front. Cells are numbered in
+ * row-major order.
+ */
+final class Terrain {
+
+    /** The symbol of a cell whose ground tile has been removed. */
+    private static final byte REMOVED = 0;
+
+    private final Dimensions dimensions;
+    private final int columns;
+    private int size = 0;
+    private byte[] symbols = new byte[64];
+    private Tile[] tiles = new Tile[64];
+
+    /** The sprite of a new tile of each symbol, indexed by symbol. */
+    private final Sprite[] sprites = new Sprite[128];
+    /** Whether a new tile of each symbol has nothing to render or tick but itself. */
+    private final boolean[] statics = new boolean[128];
+    private final long idBits = UUID.randomUUID().getMostSignificantBits();
+
+    /**
+     * Construct empty terrain with the given number of columns.
+     *
+     * @param dimensions The dimensions of the world, used to position tiles.
+     * @param columns The number of cells in each row.
+     * @requires columns > 0, every cell added lies within the window of the given dimensions
+     */
+    Terrain(Dimensions dimensions, int columns) {
+        this.dimensions = dimensions;
+        this.columns = columns;
+    }
+
+    /**
+     * Construct terrain from the symbols of its cells, e.g. read from a binary map. The symbols
+     * are not checked, see {@link #firstUnknownSymbol()}.
+     *
+     * @param dimensions The dimensions of the world, used to position tiles.
+     * @param columns The number of cells in each row.
+     * @param symbols The symbol of each cell in row-major order, owned by the terrain from now on.
+     * @requires columns > 0, symbols.length is a multiple of columns, every cell lies within
+     *     the window of the given dimensions
+     */
+    Terrain(Dimensions dimensions, int columns, byte[] symbols) {
+        this.dimensions = dimensions;
+        this.columns = columns;
+        this.symbols = symbols;
+        this.tiles = new Tile[symbols.length];
+        this.size = symbols.length;
+    }
+
+    /**
+     * Returns the number of cells in each row.
+     *
+     * @return The number of columns.
+     */
+    int columns() {
+        return columns;
+    }
+
+    /**
+     * Returns the number of complete rows.
+     *
+     * @return The number of rows.
+     */
+    int rows() {
+        return size / columns;
+    }
+
+    /**
+     * Returns the number of cells.
+     *
+     * @return The number of cells added to the terrain.
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Add a cell to the end of the terrain, filling rows from left to right.
+     *
+     * @param symbol The symbol of the cell's tile.
+     * @throws IllegalArgumentException If symbol does not correspond to a tile.
+     */
+    void add(char symbol) {
+        spriteFor(symbol);
+        if (size == symbols.length) {
+            symbols = Arrays.copyOf(symbols, size * 2);
+            tiles = Arrays.copyOf(tiles, size * 2);
+        }
+        symbols[size++] = (byte) symbol;
+    }
+
+    /**
+     * Returns the first cell whose symbol does not correspond to a tile.
+     *
+     * @return The index of the first cell with an unknown symbol, or -1 if every symbol is known.
+     */
+    int firstUnknownSymbol() {
+        boolean[] checked = new boolean[256];
+        for (int index = 0; index < size; index++) {
+            int symbol = symbols[index] & 0xFF;
+            if (checked[symbol]) {
+                continue;
+            }
+            try {
+                spriteFor((char) symbol);
+            } catch (IllegalArgumentException e) {
+                return index;
+            }
+            checked[symbol] = true;
+        }
+        return -1;
+    }
+
+    /** Release the spare capacity left over from adding cells. */
+    void trim() {
+        symbols = Arrays.copyOf(symbols, size);
+        tiles = Arrays.copyOf(tiles, size);
+    }
+
+    /**
+     * Returns the index of the cell at the given column and row.
+     *
+     * @param column The column of the cell.
+     * @param row The row of the cell.
+     * @return The index of the cell, or -1 if there is no such cell.
+     */
+    int indexOf(int column, int row) {
+        if (column < 0 || row < 0 || column >= columns || row >= rows()) {
+            return -1;
+        }
+        return row * columns + column;
+    }
+
+    /**
+     * Returns the tile of the given cell, if it has been materialised.
+     *
+     * @param index The index of the cell.
+     * @return The tile of the cell, or null if it has not been materialised.
+     */
+    Tile tileAt(int index) {
+        return tiles[index];
+    }
+
+    /**
+     * Remove the ground tile of the given cell, e.g. because it has been replaced. The cell is
+     * left empty and is never materialised again.
+     *
+     * @param index The index of the cell.
+     */
+    void remove(int index) {
+        symbols[index] = REMOVED;
+        tiles[index] = null;
+    }
+
+    /**
+     * Whether the ground tile of the given cell has been removed.
+     *
+     * @param index The index of the cell.
+     * @return true if the cell is empty, false otherwise.
+     */
+    boolean isRemoved(int index) {
+        return symbols[index] == REMOVED;
+    }
+
+    /**
+     * Whether the tile of the given cell needs nothing but its sprite until it is used, that is, a
+     * new tile of its kind has no stacked entities and is not active.
+     *
+     * @param index The index of the cell.
+     * @return true if the cell's tile can be constructed when first needed, false otherwise.
+     */
+    boolean isStatic(int index) {
+        return statics[symbols[index]];
+    }
+
+    /**
+     * Construct the tile of the given cell. The caller is responsible for placing the tile into
+     * the world.
+     *
+     * @param index The index of the cell.
+     * @return The new tile of the cell.
+     * @requires tileAt(index) == null
+     */
+    Tile materialise(int index) {
+        Tile tile =
+                TileFactory.fromSymbol(
+                        dimensions.tileToPixel(index % columns),
+                        dimensions.tileToPixel(index / columns),
+                        (char) symbols[index]);
+        tiles[index] = tile;
+        return tile;
+    }
+
+    /**
+     * Returns a renderable for a cell that has not been materialised.
+     *
+     * @param index The index of the cell.
+     * @return A renderable drawing the cell's tile.
+     */
+    Renderable renderableAt(int index) {
+        return new Cell(index);
+    }
+
+    private Sprite spriteFor(char symbol) {
+        if (symbol < sprites.length && sprites[symbol] != null) {
+            return sprites[symbol];
+        }
+        Tile prototype = TileFactory.fromSymbol(0, 0, symbol);
+        sprites[symbol] = prototype.getSprite();
+        statics[symbol] = prototype.getStackedEntities().isEmpty() && !prototype.isActive();
+        return sprites[symbol];
+    }
+
+    /** A cell of the terrain drawn as its tile would be, with an ID that is stable per cell. */
+    private final class Cell implements Renderable {
+        private final int index;
+
+        private Cell(int index) {
+            this.index = index;
+        }
+
+        @Override
+        public int getX() {
+            return dimensions.tileToPixel(index % columns);
+        }
+
+        @Override
+        public int getY() {
+            return dimensions.tileToPixel(index / columns);
+        }
+
+        @Override
+        public Sprite getSprite() {
+            return sprites[symbols[index]];
+        }
+
+        @Override
+        public String getID() {
+            return new UUID(idBits, index).toString();
+        }
+    }
+}
@@ -1,7 +1,9 @@
 package builder.world;
 
+import builder.entities.resources.Cabbage;
 import builder.entities.tiles.Tile;
 
+import engine.game.Entity;
 import engine.renderer.Dimensions;
 
 import java.util.List;
@@ -40,6 +42,32 @@ public interface World {
      */
     List<Tile> tileSelector(Predicate<Tile> filter);
 
+    /**
+     * Return all tiles that have a {@link Cabbage} stacked on them.
+     *
+     * <p>A tile is included from when a cabbage is placed on it (via {@link Tile#placeOn(Entity)})
+     * until the cabbage has been marked for removal and cleaned up by the tile. Tiles are returned
+     * in the same order as {@link #tileSelector(Predicate)} would return them.
+     *
+     * <p>The returned list is read-only and may be a live view that changes as the world does, so
+     * callers must not modify it, and must copy it to keep it across changes to the world. The
+     * default implementation returns a fresh list by scanning every tile in the world;
+     * implementations should override it with an index where possible.
+     *
+     * @return All tiles with a cabbage stacked on them.
+     */
+    default List<Tile> tilesWithCabbage() {
+        return tileSelector(
+                tile -> {
+                    for (Entity entity : tile.getStackedEntities()) {
+                        if (entity instanceof Cabbage) {
+                            return true;
+                        }
+                    }
+                    return false;
+                });
+    }
+
     /**
      * Return all tiles in the world.
      *
@@ -63,4 +91,21 @@ public interface World {
      *     the world.
      */
     void place(Tile tile);
+
+    /**
+     * Replace a tile in the world with a new tile at the same position.
+     *
+     * <p>The replaced tile is marked for removal (see {@link Tile#markForRemoval()}) and the
+     * replacement is placed as by {@link #place(Tile)}. Implementations may remove the replaced
+     * tile straight away and put the replacement in its place, e.g. at the same position in the
+     * list returned by {@link #tilesAtPosition(int, int, Dimensions)}.
+     *
+     * @param tile The tile to replace.
+     * @param replacement The tile to place instead.
+     * @requires replacement has the same position as tile
+     */
+    default void replace(Tile tile, Tile replacement) {
+        tile.markForRemoval();
+        place(replacement);
+    }
 }
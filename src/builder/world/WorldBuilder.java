@@ -6,8 +6,12 @@ import builder.entities.tiles.TileFactory;
 import engine.renderer.Dimensions;
 
 import java.io.IOException;
+import java.io.Reader;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -81,20 +85,201 @@ public class WorldBuilder {
                         row);
             }
 
+            addRow(dimensions, currentRow, currentRow.length, row, tiles);
+        }
+        return tiles;
+    }
+
+    /**
+     * Read a text encoded world from the given reader and construct the corresponding world.
+     *
+     * <p>The encoding and its requirements are the same as for {@link #fromString(Dimensions,
+     * String)}, but the text is read and validated one row at a time rather than as a whole, so the
+     * text of the world is never held in memory. The reader is not closed.
+     *
+     * @param dimensions The dimensions of the world. The tile encoding must correspond to these
+     *     dimensions.
+     * @param reader A reader containing the text encoding of a world.
+     * @return A new world containing the tiles read from the reader.
+     * @throws IOException If the reader cannot be read.
+     * @throws WorldLoadException If the tile encoding is invalid (according to {@link
+     *     #fromString(Dimensions, String)}).
+     */
+    public static BeanWorld fromReader(Dimensions dimensions, Reader reader)
+            throws IOException, WorldLoadException {
+        int numberOfTiles = dimensions.windowSize() / dimensions.tileSize();
+        RowReader rows = new RowReader(reader);
+        final List<Tile> tiles = new ArrayList<>(numberOfTiles * numberOfTiles);
+        int row = 0;
+        for (; rows.next(); row++) {
+            if (row >= numberOfTiles) {
+                continue; // keep counting so the error reports the number of lines
+            }
+            if (rows.length() != numberOfTiles) {
+                throw new WorldLoadException(
+                        "Expected "
+                                + numberOfTiles
+                                + " characters to match the given dimensions but got "
+                                + rows.length(),
+                        row);
+            }
+            addRow(dimensions, rows.row(), rows.length(), row, tiles);
+        }
+        if (row != numberOfTiles) {
+            throw new WorldLoadException(
+                    "Expected "
+                            + numberOfTiles
+                            + " lines to match the given dimensions but got "
+                            + row);
+        }
+        return fromTiles(dimensions, tiles);
+    }
+
+    /**
+     * Read a text encoded world from the given reader and construct a compact world.
+     *
+     * <p>The encoding and its requirements are the same as for {@link #fromString(Dimensions,
+     * String)}, and the text is read one row at a time as in {@link #fromReader(Dimensions,
+     * Reader)}. Rather than constructing a tile for every character, the world stores the
+     * character of each cell and constructs its tile when it is first needed (see {@link
+     * BeanWorld}). The reader is not closed.
+     *
+     * @param dimensions The dimensions of the world. The tile encoding must correspond to these
+     *     dimensions.
+     * @param reader A reader containing the text encoding of a world.
+     * @return A new compact world.
+     * @throws IOException If the reader cannot be read.
+     * @throws WorldLoadException If the tile encoding is invalid (according to {@link
+     *     #fromString(Dimensions, String)}).
+     */
+    public static BeanWorld compactFromReader(Dimensions dimensions, Reader reader)
+            throws IOException, WorldLoadException {
+        int numberOfTiles = dimensions.windowSize() / dimensions.tileSize();
+        RowReader rows = new RowReader(reader);
+        Terrain terrain = new Terrain(dimensions, numberOfTiles);
+        int row = 0;
+        for (; rows.next(); row++) {
+            if (row >= numberOfTiles) {
+                continue; // keep counting so the error reports the number of lines
+            }
+            if (rows.length() != numberOfTiles) {
+                throw new WorldLoadException(
+                        "Expected "
+                                + numberOfTiles
+                                + " characters to match the given dimensions but got "
+                                + rows.length(),
+                        row);
+            }
+            char[] symbols = rows.row();
             for (int col = 0; col < numberOfTiles; col++) {
-                int tileX = dimensions.tileToPixel(col);
-                int tileY = dimensions.tileToPixel(row);
-                char symbol = currentRow[col];
-                Tile tile;
                 try {
-                    tile = TileFactory.fromSymbol(tileX, tileY, symbol);
+                    terrain.add(symbols[col]);
                 } catch (IllegalArgumentException e) {
-                    throw new WorldLoadException("Unknown symbol: '" + symbol + "'", row, col);
+                    throw new WorldLoadException(
+                            "Unknown symbol: '" + symbols[col] + "'", row, col);
                 }
-                tiles.add(tile);
             }
         }
-        return tiles;
+        if (row != numberOfTiles) {
+            throw new WorldLoadException(
+                    "Expected "
+                            + numberOfTiles
+                            + " lines to match the given dimensions but got "
+                            + row);
+        }
+        terrain.trim();
+        return new BeanWorld(dimensions, terrain);
+    }
+
+    /**
+     * Read a binary map file (see {@link MapCompiler}) and construct a compact world.
+     *
+     * <p>The file is memory-mapped and its tiles copied straight into the world's terrain, so the
+     * world behaves as one loaded by {@link #compactFromReader(Dimensions, Reader)} from the
+     * original text.
+     *
+     * @param dimensions The dimensions of the world. The binary map must correspond to these
+     *     dimensions, as for {@link #fromString(Dimensions, String)}.
+     * @param filepath The path to a binary map file.
+     * @return A new compact world.
+     * @throws IOException If the file path doesn't exist or otherwise can't be read.
+     * @throws WorldLoadException If the file is not a binary map of a supported version.
+     * @throws WorldLoadException If the number of columns or rows in its header doesn't match the
+     *     required amount according to the dimensions.
+     * @throws WorldLoadException If the size of the file doesn't match the size in its header.
+     * @throws WorldLoadException If any tile doesn't correspond to a tile according to {@link
+     *     TileFactory#fromSymbol(int, int, char)}.
+     */
+    public static BeanWorld fromBinaryFile(Dimensions dimensions, String filepath)
+            throws IOException, WorldLoadException {
+        byte[] symbols;
+        int columns;
+        try (FileChannel channel = FileChannel.open(Path.of(filepath), StandardOpenOption.READ)) {
+            if (channel.size() < MapCompiler.HEADER_SIZE) {
+                throw new WorldLoadException("Expected a binary map but the file is too short");
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.getInt() != MapCompiler.MAGIC) {
+                throw new WorldLoadException("Expected a binary map but the file is not one");
+            }
+            short version = buffer.getShort();
+            if (version != MapCompiler.VERSION) {
+                throw new WorldLoadException("Unsupported binary map version: " + version);
+            }
+            columns = buffer.getInt();
+            int rows = buffer.getInt();
+            int numberOfTiles = dimensions.windowSize() / dimensions.tileSize();
+            if (columns != numberOfTiles || rows != numberOfTiles) {
+                throw new WorldLoadException(
+                        "Expected "
+                                + numberOfTiles
+                                + " by "
+                                + numberOfTiles
+                                + " tiles to match the given dimensions but got "
+                                + columns
+                                + " by "
+                                + rows);
+            }
+            long size = (long) columns * rows;
+            if (columns <= 0 || rows <= 0 || size != buffer.remaining()) {
+                throw new WorldLoadException(
+                        "Expected "
+                                + columns
+                                + " by "
+                                + rows
+                                + " tiles to match the header but got "
+                                + buffer.remaining());
+            }
+            symbols = new byte[(int) size];
+            buffer.get(symbols);
+        }
+        Terrain terrain = new Terrain(dimensions, columns, symbols);
+        int unknown = terrain.firstUnknownSymbol();
+        if (unknown >= 0) {
+            throw new WorldLoadException(
+                    "Unknown symbol: '" + (char) (symbols[unknown] & 0xFF) + "'",
+                    unknown / columns,
+                    unknown % columns);
+        }
+        return new BeanWorld(dimensions, terrain);
+    }
+
+    /** Construct the tiles for one row of the text encoding, adding them to the given list. */
+    private static void addRow(
+            Dimensions dimensions, char[] symbols, int length, int row, List<Tile> tiles)
+            throws WorldLoadException {
+        int tileY = dimensions.tileToPixel(row);
+        for (int col = 0; col < length; col++) {
+            int tileX = dimensions.tileToPixel(col);
+            char symbol = symbols[col];
+            Tile tile;
+            try {
+                tile = TileFactory.fromSymbol(tileX, tileY, symbol);
+            } catch (IllegalArgumentException e) {
+                throw new WorldLoadException("Unknown symbol: '" + symbol + "'", row, col);
+            }
+            tiles.add(tile);
+        }
     }
 
     /**
@@ -102,7 +287,7 @@ public class WorldBuilder {
      * file.
      *
      * <p>See {@link #fromString(Dimensions, String)} for a description of how the tile encoding is
-     * read.
+     * read. The file is read one row at a time (see {@link #fromReader(Dimensions, Reader)}).
      *
      * @param dimensions The dimensions of the world. The tile encoding must correspond to these
      *     dimensions.
@@ -114,8 +299,9 @@ public class WorldBuilder {
      */
     public static BeanWorld fromFile(Dimensions dimensions, String filepath)
             throws IOException, WorldLoadException {
-        String text = Files.readString(Path.of(filepath));
-        return fromTiles(fromString(dimensions, text));
+        try (Reader reader = Files.newBufferedReader(Path.of(filepath))) {
+            return fromReader(dimensions, reader);
+        }
     }
 
     /**
@@ -134,7 +320,22 @@ public class WorldBuilder {
      * @return A new world containing all given tiles.
      */
     public static BeanWorld fromTiles(List<Tile> tiles) {
-        BeanWorld world = new BeanWorld();
+        return populate(new BeanWorld(), tiles);
+    }
+
+    /**
+     * Construct a new world containing all the tiles in the parameter, indexed for the tile size of
+     * the given dimensions.
+     *
+     * @param dimensions The dimensions of the world.
+     * @param tiles Tiles to populate the world.
+     * @return A new world containing all given tiles.
+     */
+    public static BeanWorld fromTiles(Dimensions dimensions, List<Tile> tiles) {
+        return populate(new BeanWorld(dimensions), tiles);
+    }
+
+    private static BeanWorld populate(BeanWorld world, List<Tile> tiles) {
         for (Tile tile : tiles.reversed()) { // reverse so tests don't implicitly rely on order
             world.place(tile);
         }
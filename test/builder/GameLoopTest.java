@@ -0,0 +1,158 @@
+package builder;
+
+import engine.Engine;
+import engine.EngineState;
+import engine.core.Core;
+import engine.core.Debug;
+import engine.game.Game;
+import engine.renderer.Renderable;
+import engine.renderer.TileGrid;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.List;
+
+/**
+ * Unit tests for GameLoop covering tick pacing and catching up after a slow tick.
+ *
+ * Location: test/builder/GameLoopTest.java
+ */
+public class GameLoopTest {
+
+    private static final long MILLIS = 1_000_000L;
+
+    /**
+     * Test that the loop runs ticks no faster than its timestep and stops once the engine stops
+     * running.
+     */
+    @Test
+    public void testTicksArePacedByTimestep() {
+        Engine[] engine = new Engine[1];
+        int[] ticked = new int[1];
+        engine[0] = engine(() -> {
+            if (++ticked[0] == 20) {
+                engine[0].isRunning(false);
+            }
+        });
+        GameLoop loop = new GameLoop(engine[0], 2 * MILLIS);
+        long start = System.nanoTime();
+        loop.run();
+        long elapsed = System.nanoTime() - start;
+
+        Assert.assertEquals(20, ticked[0]);
+        Assert.assertEquals(20, loop.getTicks());
+        Assert.assertTrue("ran in " + elapsed + "ns", elapsed >= 20 * 2 * MILLIS);
+        Assert.assertTrue(loop.getMaxJitter() >= loop.getMeanJitter());
+    }
+
+    /**
+     * Test that after a slow tick the loop runs at most the most catch-up ticks back to back and
+     * drops the rest.
+     */
+    @Test
+    public void testCatchUpIsCapped() {
+        Engine[] engine = new Engine[1];
+        int[] ticked = new int[1];
+        engine[0] = engine(() -> {
+            ticked[0]++;
+            if (ticked[0] == 1) {
+                sleep(300);
+            } else if (ticked[0] == 6) {
+                engine[0].isRunning(false);
+            }
+        });
+        // a timestep long enough that the first tick is never already behind, as a late first
+        // tick would be run in a catch-up batch that forgives the slow tick
+        GameLoop loop = new GameLoop(engine[0], 10 * MILLIS);
+        loop.setMaxCatchUp(3);
+        loop.run();
+
+        Assert.assertEquals(6, loop.getTicks());
+        Assert.assertTrue("dropped " + loop.getDroppedTicks(), loop.getDroppedTicks() >= 20);
+        Assert.assertTrue(loop.getMaxJitter() >= 10 * MILLIS);
+    }
+
+    /** Test that the frame rate cap keeps ticks apart even when the timestep is shorter. */
+    @Test
+    public void testFrameRateIsCapped() {
+        Engine[] engine = new Engine[1];
+        int[] ticked = new int[1];
+        engine[0] = engine(() -> {
+            if (++ticked[0] == 10) {
+                engine[0].isRunning(false);
+            }
+        });
+        GameLoop loop = new GameLoop(engine[0], MILLIS);
+        loop.setMaxFps(200);
+        long start = System.nanoTime();
+        loop.run();
+        long elapsed = System.nanoTime() - start;
+
+        Assert.assertEquals(10, loop.getTicks());
+        Assert.assertTrue("ran in " + elapsed + "ns", elapsed >= 9 * 5 * MILLIS);
+    }
+
+    private static Engine engine(Runnable onTick) {
+        Game game =
+                new Game() {
+                    @Override
+                    public void tick(EngineState state) {
+                        onTick.run();
+                    }
+
+                    @Override
+                    public List<Renderable> render() {
+                        return List.of();
+                    }
+                };
+        Core core =
+                new Core(new Debug(false)) {
+                    @Override
+                    public void draw(List<Renderable> renderables) {}
+
+                    @Override
+                    public int getMouseX() {
+                        return 0;
+                    }
+
+                    @Override
+                    public int getMouseY() {
+                        return 0;
+                    }
+
+                    @Override
+                    public boolean isLeftPressed() {
+                        return false;
+                    }
+
+                    @Override
+                    public boolean isRightPressed() {
+                        return false;
+                    }
+
+                    @Override
+                    public boolean isMiddlePressed() {
+                        return false;
+                    }
+
+                    @Override
+                    public List<Character> getDown() {
+                        return List.of();
+                    }
+
+                    @Override
+                    public boolean isDown(char character) {
+                        return false;
+                    }
+                };
+        return new Engine(game, new TileGrid(10, 800), core);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package builder;
+
+import builder.ui.FrameAnimation;
+import builder.ui.RenderSnapshot;
+import builder.ui.SpriteGallery;
+
+import engine.EngineState;
+import engine.art.sprites.Sprite;
+import engine.game.Entity;
+import engine.game.Game;
+import engine.renderer.Renderable;
+import engine.timing.AnimationDuration;
+import org.junit.Assert;
+import org.junit.Test;
+import scenarios.mocks.MockEngineState;
+
+import java.util.List;
+
+/**
+ * Unit tests for ThreadedGame covering the snapshots published by the simulation thread.
+ *
+ * Location: test/builder/ThreadedGameTest.java
+ */
+public class ThreadedGameTest {
+
+    /**
+     * Test that the simulation thread ticks the game with its own tick count and that rendering
+     * returns a snapshot of the game as it was at the end of a tick.
+     */
+    @Test
+    public void testRenderReturnsLatestSnapshot() throws InterruptedException {
+        Walker walker = new Walker();
+        ThreadedGame threaded = new ThreadedGame(walker, 1_000_000L);
+        Assert.assertEquals(0, threaded.getSnapshot().getTick());
+        Assert.assertEquals(0, threaded.render().getFirst().getX());
+
+        threaded.start(new MockEngineState());
+        long deadline = System.currentTimeMillis() + 5000;
+        while (threaded.getSnapshot().getTick() < 10 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(1);
+        }
+        threaded.stop();
+
+        long tick = threaded.getSnapshot().getTick();
+        Assert.assertTrue("ticked " + tick + " times", tick >= 10);
+        Assert.assertEquals(tick, walker.entity.getX());
+        Assert.assertEquals(tick - 1, walker.lastTick);
+        Renderable copy = threaded.render().getFirst();
+        Assert.assertEquals(tick, copy.getX());
+        Assert.assertEquals(walker.entity.getID(), copy.getID());
+    }
+
+    /**
+     * Test that a snapshot keeps the frame an animation was showing when it was taken, and the
+     * position of the renderable, as both carry on changing.
+     */
+    @Test
+    public void testSnapshotKeepsAnimationFrame() {
+        Sprite[] frames = {
+            SpriteGallery.chickenFarmer.getSprite("left"),
+            SpriteGallery.chickenFarmer.getSprite("left1")
+        };
+        FrameAnimation animation = new FrameAnimation(AnimationDuration.FAST, frames);
+        Entity entity = new Walker().entity;
+        entity.setSprite(animation);
+        List<Renderable> renderables = List.of(entity);
+        List<Renderable> copies = RenderSnapshot.of(0, renderables).getRenderables();
+
+        Sprite shown = animation.currentFrame();
+        for (int i = 0; i < 100 && animation.currentFrame() == shown; i++) {
+            animation.tick(null);
+        }
+        entity.setX(5);
+        Assert.assertNotSame(shown, animation.currentFrame());
+        Assert.assertSame(shown, copies.getFirst().getSprite());
+        Assert.assertEquals(0, copies.getFirst().getX());
+    }
+
+    /** A game of one entity that moves one pixel to the right each tick. */
+    private static final class Walker implements Game {
+        private final Entity entity =
+                new Entity(0, 0) {
+                    @Override
+                    public void tick(EngineState state) {}
+                };
+        private volatile int lastTick = -1;
+
+        @Override
+        public void tick(EngineState state) {
+            lastTick = state.currentTick();
+            entity.setX(entity.getX() + 1);
+        }
+
+        @Override
+        public List<Renderable> render() {
+            return List.of(entity);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package builder;
+
+import engine.timing.RepeatingTimer;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Unit tests for TimingWheel covering timer cadence and firing order.
+ *
+ * Location: test/builder/TimingWheelTest.java
+ */
+public class TimingWheelTest {
+
+    /**
+     * Test that repeating timers, including those long enough to wait in coarser wheels, fire on
+     * exactly the ticks a RepeatingTimer of the same interval finishes on.
+     */
+    @Test
+    public void testRepeatingTimersMatchRepeatingTimer() {
+        int[] intervals = {1, 2, 40, 63, 64, 65, 100, 360, 4095, 4096, 4097, 70000};
+        TimingWheel wheel = new TimingWheel();
+        List<TimingWheel.Timer> timers = new ArrayList<>();
+        List<RepeatingTimer> expected = new ArrayList<>();
+        for (int interval : intervals) {
+            timers.add(wheel.scheduleRepeating(interval, (state, game) -> {}));
+            expected.add(new RepeatingTimer(interval));
+        }
+        for (int tick = 1; tick <= 300000; tick++) {
+            wheel.advance(null, null);
+            for (int i = 0; i < intervals.length; i++) {
+                expected.get(i).tick();
+                if (expected.get(i).isFinished() != timers.get(i).isFinished()) {
+                    Assert.fail("interval " + intervals[i] + " differs on tick " + tick);
+                }
+            }
+        }
+    }
+
+    /**
+     * Test that timers firing on the same tick run in the order they were first scheduled, that
+     * a timer run once runs once, and that a cancelled timer does not run.
+     */
+    @Test
+    public void testTimersFireInScheduleOrder() {
+        TimingWheel wheel = new TimingWheel();
+        List<String> fired = new ArrayList<>();
+        wheel.scheduleRepeating(6, (state, game) -> fired.add("six"));
+        wheel.scheduleRepeating(2, (state, game) -> fired.add("two"));
+        wheel.schedule(6, (state, game) -> fired.add("once"));
+        TimingWheel.Timer cancelled = wheel.scheduleRepeating(3, (state, game) -> fired.add("x"));
+        cancelled.cancel();
+        for (int tick = 0; tick < 12; tick++) {
+            wheel.advance(null, null);
+        }
+        Assert.assertEquals(
+                List.of("two", "two", "six", "two", "once", "two", "two", "six", "two"), fired);
+        Assert.assertEquals(12, wheel.getTicks());
+    }
+}
@@ -0,0 +1,31 @@
+package builder.entities.npc;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Unit tests for Contacts covering the squared distance contact check.
+ *
+ * Location: test/builder/entities/npc/ContactsTest.java
+ */
+public class ContactsTest {
+
+    /**
+     * Test that a position is in contact with a point exactly when its rounded down distance from
+     * the point is less than the range, including on the boundary and for ranges of zero.
+     */
+    @Test
+    public void testInContactMatchesDistanceFrom() {
+        Scarecrow npc = new Scarecrow(100, 100);
+        for (int x = 40; x <= 160; x++) {
+            for (int y = 40; y <= 160; y++) {
+                for (int range : new int[] {0, 1, 16, 32, 50}) {
+                    Assert.assertEquals(
+                            x + "," + y + " " + range,
+                            npc.distanceFrom(x, y) < range,
+                            Contacts.inContact(npc, x, y, range));
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package builder.entities.npc;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Unit tests for Heading covering equivalence with the Math expressions it replaces.
+ *
+ * Location: test/builder/entities/npc/HeadingTest.java
+ */
+public class HeadingTest {
+
+    /**
+     * Test that the direction of every vector with small whole components, including those along
+     * the axes and diagonals, matches (int) Math.toDegrees(Math.atan2(deltaY, deltaX)).
+     */
+    @Test
+    public void testDegreesMatchesAtan2() {
+        for (int deltaX = -300; deltaX <= 300; deltaX++) {
+            for (int deltaY = -300; deltaY <= 300; deltaY++) {
+                Assert.assertEquals(
+                        deltaX + "," + deltaY,
+                        (int) Math.toDegrees(Math.atan2(deltaY, deltaX)),
+                        Heading.degrees(deltaY, deltaX));
+            }
+        }
+        Assert.assertEquals(
+                (int) Math.toDegrees(Math.atan2(-0.5, 399.5)), Heading.degrees(-0.5, 399.5));
+    }
+
+    /**
+     * Test that the cosine and sine of each direction, inside and outside of the tables, are the
+     * same doubles Math computes.
+     */
+    @Test
+    public void testCosAndSinMatchMath() {
+        for (int degrees = -1000; degrees <= 1000; degrees++) {
+            double radians = Math.toRadians(degrees);
+            Assert.assertEquals(Math.cos(radians), Heading.cos(degrees), 0.0);
+            Assert.assertEquals(Math.sin(radians), Heading.sin(degrees), 0.0);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package builder.entities.npc;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Unit tests for MovementBatch covering equivalence with each NPC moving itself.
+ *
+ * Location: test/builder/entities/npc/MovementBatchTest.java
+ */
+public class MovementBatchTest {
+
+    /**
+     * Test that moving NPCs in a batch and then ticking them leaves every NPC where ticking it
+     * alone would have, for every direction and a range of speeds.
+     */
+    @Test
+    public void testAdvanceMatchesTick() {
+        Random random = new Random(12);
+        List<Npc> batched = new ArrayList<>();
+        List<Npc> alone = new ArrayList<>();
+        for (int direction = -360; direction < 720; direction++) {
+            // at most 3 rounds of 5 pixels from the window's edges, so positions stay valid
+            int x = 50 + random.nextInt(700);
+            int y = 50 + random.nextInt(700);
+            int speed = random.nextInt(6);
+            for (List<Npc> npcs : List.of(batched, alone)) {
+                Npc npc = new Npc(x, y);
+                npc.setDirection(direction);
+                npc.setSpeed(speed);
+                npcs.add(npc);
+            }
+        }
+
+        MovementBatch batch = new MovementBatch();
+        for (int round = 0; round < 3; round++) {
+            batch.advance(batched);
+            for (int i = 0; i < batched.size(); i++) {
+                batched.get(i).tick(null, null);
+                alone.get(i).tick(null, null);
+                Assert.assertEquals(alone.get(i).getX(), batched.get(i).getX());
+                Assert.assertEquals(alone.get(i).getY(), batched.get(i).getY());
+            }
+        }
+    }
+}
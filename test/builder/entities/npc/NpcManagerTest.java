@@ -0,0 +1,44 @@
+package builder.entities.npc;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.List;
+
+/**
+ * Unit tests for NpcManager covering the cleanup of NPCs marked for removal.
+ *
+ * Location: test/builder/entities/npc/NpcManagerTest.java
+ */
+public class NpcManagerTest {
+
+    /**
+     * Test that cleanup removes exactly the NPCs marked for removal, in order, whether they were
+     * marked before or after being added, or were added straight to the internal list.
+     */
+    @Test
+    public void testCleanupRemovesMarkedNpcs() {
+        NpcManager manager = new NpcManager();
+        Scarecrow first = new Scarecrow(0, 0);
+        Scarecrow second = new Scarecrow(10, 0);
+        Scarecrow early = new Scarecrow(20, 0);
+        manager.addNpc(first);
+        manager.addNpc(second);
+        early.markForRemoval();
+        manager.addNpc(early);
+        manager.cleanup();
+        Assert.assertEquals(List.of(first, second), manager.getAllNpcs());
+
+        first.markForRemoval();
+        first.markForRemoval();
+        manager.cleanup();
+        Assert.assertEquals(List.of(second), manager.getAllNpcs());
+
+        Scarecrow direct = new Scarecrow(30, 0);
+        manager.getNpcs().add(direct);
+        manager.cleanup();
+        direct.markForRemoval();
+        manager.cleanup();
+        Assert.assertEquals(List.of(second), manager.getAllNpcs());
+    }
+}
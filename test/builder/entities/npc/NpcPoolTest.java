@@ -0,0 +1,82 @@
+package builder.entities.npc;
+
+import builder.JavaBeanFarm;
+import builder.world.WorldLoadException;
+
+import engine.renderer.Dimensions;
+import engine.renderer.TileGrid;
+import org.junit.Assert;
+import org.junit.Test;
+import scenarios.Lockstep;
+import scenarios.details.ScenarioDetails;
+
+import java.io.FileReader;
+import java.io.IOException;
+
+/**
+ * Unit tests for NpcPool covering birds and guard bees reused by the NPC managers.
+ *
+ * Location: test/builder/entities/npc/NpcPoolTest.java
+ */
+public class NpcPoolTest {
+
+    /**
+     * Test that a cleaned up guard bee is only reused with pooling on, and that a reused bee is in
+     * the same state as a new bee.
+     */
+    @Test
+    public void testCleanedUpBeesAreReusedAsNew() {
+        NpcManager manager = new NpcManager();
+        Scarecrow target = new Scarecrow(500, 300);
+        GuardBee first = manager.spawnGuardBee(100, 100, target);
+        first.move();
+        first.markForRemoval();
+        manager.cleanup();
+        Assert.assertNotSame(first, manager.spawnGuardBee(100, 100, target));
+
+        manager.setPooling(true);
+        GuardBee second = manager.spawnGuardBee(100, 100, target);
+        second.setSpeed(5);
+        second.move();
+        second.markForRemoval();
+        manager.cleanup();
+        Assert.assertEquals(1, manager.getNpcCount());
+
+        GuardBee reused = manager.spawnGuardBee(200, 40, target);
+        GuardBee fresh = new GuardBee(200, 40, target);
+        Assert.assertSame(second, reused);
+        Assert.assertFalse(reused.isMarkedForRemoval());
+        Assert.assertEquals(fresh.getX(), reused.getX());
+        Assert.assertEquals(fresh.getY(), reused.getY());
+        Assert.assertEquals(fresh.getDirection(), reused.getDirection());
+        Assert.assertEquals(fresh.getSpeed(), reused.getSpeed(), 0.0);
+        Assert.assertSame(fresh.getSprite(), reused.getSprite());
+        Assert.assertFalse(reused.getLifespan().isFinished());
+        Assert.assertEquals(2, manager.getNpcCount());
+    }
+
+    /**
+     * Test that a game with pooling on plays out exactly as one without, with birds of every type
+     * spawning, stealing and leaving, and guard bees spawning from the hives the player places.
+     */
+    @Test
+    public void testPooledGameMatchesUnpooled() throws IOException, WorldLoadException {
+        Dimensions dimensions = new TileGrid(10, 800);
+        JavaBeanFarm unpooled = busyFarm(dimensions);
+        JavaBeanFarm pooled = busyFarm(dimensions);
+        pooled.setPooling(true);
+        new Lockstep(dimensions, 2).play(unpooled, pooled, 5000);
+    }
+
+    /** Returns a farm with spawners of every type of bird, and coins to place hives with. */
+    private static JavaBeanFarm busyFarm(Dimensions dimensions)
+            throws IOException, WorldLoadException {
+        ScenarioDetails details = new ScenarioDetails(340, 400, 60, 60);
+        details.addMagpieSpawner(0, 0, 40);
+        details.addMagpieSpawner(700, 700, 70);
+        details.addEagleSpawner(700, 0, 90);
+        details.addPigeonSpawner(0, 700, 50);
+        return new JavaBeanFarm(
+                dimensions, new FileReader("resources/testmaps/pigeonTest.map"), details.toReader());
+    }
+}
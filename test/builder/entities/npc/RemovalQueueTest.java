@@ -0,0 +1,72 @@
+package builder.entities.npc;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Unit tests for RemovalQueue covering removal against a check of every NPC.
+ *
+ * Location: test/builder/entities/npc/RemovalQueueTest.java
+ */
+public class RemovalQueueTest {
+
+    /**
+     * Test that removing the queued NPCs leaves a list, and a list of some of its NPCs in the
+     * same order, exactly as removing every marked NPC would, over rounds of NPCs being added,
+     * marked and reused.
+     */
+    @Test
+    public void testRemoveFromMatchesRemovingEveryMarkedNpc() {
+        Random random = new Random(17);
+        RemovalQueue removals = new RemovalQueue();
+        List<Npc> npcs = new ArrayList<>();
+        List<Npc> some = new ArrayList<>();
+        List<Npc> spares = new ArrayList<>();
+        for (int round = 0; round < 200; round++) {
+            for (int i = random.nextInt(8); i > 0; i--) {
+                Npc npc = spares.isEmpty() || random.nextBoolean()
+                        ? new Npc(100, 100)
+                        : spares.removeLast();
+                npc.resetNpc(100, 100);
+                npcs.add(npc);
+                if (random.nextInt(3) == 0) {
+                    some.add(npc);
+                }
+                removals.track(npc);
+            }
+            for (Npc npc : npcs) {
+                if (random.nextInt(5) == 0) {
+                    npc.markForRemoval();
+                }
+            }
+            List<Npc> expected = new ArrayList<>(npcs);
+            expected.removeIf(Npc::isMarkedForRemoval);
+            List<Npc> expectedSome = new ArrayList<>(some);
+            expectedSome.removeIf(Npc::isMarkedForRemoval);
+
+            removals.removeFrom(some);
+            removals.removeFrom(npcs);
+            Assert.assertEquals(expected, npcs);
+            Assert.assertEquals(expectedSome, some);
+            for (int i = 0; i < removals.size(); i++) {
+                spares.add(removals.get(i));
+            }
+            removals.clear();
+        }
+    }
+
+    /** Test that an NPC already marked for removal when it is tracked is queued straight away. */
+    @Test
+    public void testTrackingMarkedNpcQueuesIt() {
+        RemovalQueue removals = new RemovalQueue();
+        Npc npc = new Npc(100, 100);
+        npc.markForRemoval();
+        removals.track(npc);
+        Assert.assertEquals(1, removals.size());
+        Assert.assertSame(npc, removals.get(0));
+    }
+}
@@ -0,0 +1,50 @@
+package builder.entities.npc;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Unit tests for SpatialHash covering radius queries against a scan of every entity.
+ *
+ * Location: test/builder/entities/npc/SpatialHashTest.java
+ */
+public class SpatialHashTest {
+
+    /**
+     * Test that radius queries find exactly the entities a distance check over every entity
+     * finds, in the same order, including after entities have moved and the hash has been
+     * rebuilt.
+     */
+    @Test
+    public void testWithinMatchesDistanceFromEveryEntity() {
+        Random random = new Random(11);
+        List<Npc> npcs = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            npcs.add(new Scarecrow(100 + random.nextInt(600), 100 + random.nextInt(600)));
+        }
+        SpatialHash<Npc> hash = new SpatialHash<>(128);
+
+        for (int round = 0; round < 2; round++) {
+            hash.rebuild(npcs);
+            for (int query = 0; query < 200; query++) {
+                Npc probe = new Scarecrow(random.nextInt(800), random.nextInt(800));
+                int radius = random.nextInt(400);
+                List<Npc> expected = new ArrayList<>();
+                for (Npc npc : npcs) {
+                    if (probe.distanceFrom(npc) < radius) {
+                        expected.add(npc);
+                    }
+                }
+                Assert.assertEquals(expected, hash.within(probe.getX(), probe.getY(), radius));
+            }
+            for (Npc npc : npcs) {
+                npc.setX(npc.getX() + random.nextInt(101) - 50);
+                npc.setY(npc.getY() + random.nextInt(101) - 50);
+            }
+        }
+    }
+}
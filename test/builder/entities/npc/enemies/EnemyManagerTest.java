@@ -0,0 +1,98 @@
+package builder.entities.npc.enemies;
+
+import builder.JavaBeanFarm;
+import builder.player.ChickenFarmer;
+import builder.world.WorldLoadException;
+import engine.renderer.Dimensions;
+import engine.renderer.TileGrid;
+import org.junit.Assert;
+import org.junit.Test;
+import scenarios.Lockstep;
+import scenarios.details.ScenarioDetails;
+
+import java.io.FileReader;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Unit tests for EnemyManager covering spawning, cleanup and parallel planning.
+ *
+ * Location: test/builder/entities/npc/enemies/EnemyManagerTest.java
+ */
+public class EnemyManagerTest {
+
+    /**
+     * Test that the enemies of each type are kept in spawn order as enemies spawn and are cleaned
+     * up, including for a type first asked for after enemies have spawned, and that the views
+     * are live rather than copies.
+     */
+    @Test
+    public void testEnemiesOfTypeTrackSpawnsAndCleanup() {
+        EnemyManager manager = new EnemyManager(new TileGrid(10, 800));
+        ChickenFarmer player = new ChickenFarmer(0, 0);
+        List<Magpie> magpies = manager.getMagpies();
+
+        Magpie first = manager.mkM(player);
+        Pigeon pigeon = manager.mkP(player);
+        Eagle eagle = manager.mkE(player);
+        Magpie second = manager.mkM(player);
+        Assert.assertEquals(List.of(first, second), magpies);
+        Assert.assertSame(magpies, manager.getEnemiesOfType(Magpie.class));
+        Assert.assertEquals(List.of(pigeon), manager.getEnemiesOfType(Pigeon.class));
+        Assert.assertEquals(List.of(eagle), manager.getEnemiesOfType(Eagle.class));
+        Assert.assertEquals(manager.getAllEnemies(), manager.getEnemiesOfType(Enemy.class));
+
+        first.markForRemoval();
+        pigeon.markForRemoval();
+        manager.cleanup();
+        Assert.assertEquals(List.of(second), magpies);
+        Assert.assertTrue(manager.getEnemiesOfType(Pigeon.class).isEmpty());
+        Assert.assertEquals(List.of(eagle, second), manager.getEnemiesOfType(Enemy.class));
+        Assert.assertEquals(List.of(eagle, second), manager.getAllEnemies());
+    }
+
+    /**
+     * Test that an enemy marked for removal stays active until the next cleanup, and that a
+     * cleanup with nothing marked leaves the enemies as they were.
+     */
+    @Test
+    public void testCleanupRemovesOnlyMarkedEnemies() {
+        EnemyManager manager = new EnemyManager(new TileGrid(10, 800));
+        ChickenFarmer player = new ChickenFarmer(0, 0);
+        Magpie magpie = manager.mkM(player);
+        Eagle eagle = manager.mkE(player);
+        manager.cleanup();
+        Assert.assertEquals(List.of(magpie, eagle), manager.getAllEnemies());
+
+        eagle.markForRemoval();
+        Assert.assertEquals(List.of(magpie, eagle), manager.getAllEnemies());
+        manager.cleanup();
+        Assert.assertEquals(List.of(magpie), manager.getAllEnemies());
+    }
+
+    /**
+     * Test that a game planning its enemies in parallel plays out exactly as one planning them one
+     * at a time, with the threshold lowered so that every tick with enemies is planned in
+     * parallel.
+     */
+    @Test
+    public void testParallelGameMatchesSequential() throws IOException, WorldLoadException {
+        Dimensions dimensions = new TileGrid(10, 800);
+        JavaBeanFarm sequential = busyFarm(dimensions);
+        JavaBeanFarm parallel = busyFarm(dimensions);
+        parallel.setParallel(true, 1);
+        new Lockstep(dimensions, 2).play(sequential, parallel, 5000);
+    }
+
+    /** Returns a farm with spawners of every type of bird, and coins to place hives with. */
+    private static JavaBeanFarm busyFarm(Dimensions dimensions)
+            throws IOException, WorldLoadException {
+        ScenarioDetails details = new ScenarioDetails(340, 400, 60, 60);
+        details.addMagpieSpawner(0, 0, 40);
+        details.addMagpieSpawner(700, 700, 70);
+        details.addEagleSpawner(700, 0, 90);
+        details.addPigeonSpawner(0, 700, 50);
+        return new JavaBeanFarm(
+                dimensions, new FileReader("resources/testmaps/pigeonTest.map"), details.toReader());
+    }
+}
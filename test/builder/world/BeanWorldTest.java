@@ -0,0 +1,271 @@
+package builder.world;
+
+import builder.GameState;
+import builder.JavaBeanGameState;
+import builder.entities.npc.NpcManager;
+import builder.entities.npc.enemies.EnemyManager;
+import builder.entities.resources.Cabbage;
+import builder.entities.tiles.Dirt;
+import builder.entities.tiles.Grass;
+import builder.entities.tiles.Tile;
+import builder.entities.tiles.Water;
+import builder.inventory.TinyInventory;
+import builder.inventory.items.Hoe;
+import builder.player.ChickenFarmer;
+import engine.EngineState;
+import engine.renderer.Dimensions;
+import engine.renderer.TileGrid;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Unit tests for BeanWorld covering tile lookup, placement and the tile list.
+ *
+ * Location: test/builder/world/BeanWorldTest.java
+ */
+public class BeanWorldTest {
+
+    private static final int SIZE = 800;
+    private static final int TILES_PER_ROW = 10;
+    private static final Dimensions dimensions = new TileGrid(TILES_PER_ROW, SIZE);
+
+    /**
+     * Test that tilesAtPosition finds the tile covering any pixel in its cell, and nothing else.
+     */
+    @Test
+    public void testTilesAtPositionFindsTileInCell() {
+        BeanWorld world = new BeanWorld(dimensions);
+        Tile grass = new Grass(dimensions.tileToPixel(2), dimensions.tileToPixel(3));
+        Tile water = new Water(dimensions.tileToPixel(3), dimensions.tileToPixel(2));
+        world.place(grass);
+        world.place(water);
+
+        int left = 2 * dimensions.tileSize();
+        int top = 3 * dimensions.tileSize();
+        Assert.assertEquals(List.of(grass), world.tilesAtPosition(left, top, dimensions));
+        Assert.assertEquals(
+                List.of(grass),
+                world.tilesAtPosition(
+                        left + dimensions.tileSize() - 1, top + dimensions.tileSize() - 1,
+                        dimensions));
+        Assert.assertEquals(List.of(water), world.tilesAtPosition(top, left, dimensions));
+        Assert.assertTrue(world.tilesAtPosition(0, 0, dimensions).isEmpty());
+    }
+
+    /**
+     * Test that tiles placed on the same cell are returned in the order they were placed, and that
+     * tiles placed after the first lookup are found.
+     */
+    @Test
+    public void testTilesAtPositionKeepsPlacementOrder() {
+        BeanWorld world = new BeanWorld();
+        int x = dimensions.tileToPixel(5);
+        int y = dimensions.tileToPixel(5);
+        Tile grass = new Grass(x, y);
+        world.place(grass);
+        Assert.assertEquals(List.of(grass), world.tilesAtPosition(x, y, dimensions));
+
+        Tile dirt = new Dirt(x, y);
+        world.place(dirt);
+        Assert.assertEquals(List.of(grass, dirt), world.tilesAtPosition(x, y, dimensions));
+    }
+
+    /**
+     * Test that modifying the returned lists does not modify the world.
+     */
+    @Test
+    public void testReturnedListsAreCopies() {
+        BeanWorld world = new BeanWorld(dimensions);
+        int x = dimensions.tileToPixel(1);
+        Tile grass = new Grass(x, x);
+        world.place(grass);
+
+        world.tilesAtPosition(x, x, dimensions).clear();
+        world.allTiles().clear();
+
+        Assert.assertEquals(List.of(grass), world.tilesAtPosition(x, x, dimensions));
+        Assert.assertEquals(List.of(grass), world.allTiles());
+    }
+
+    /**
+     * Test that the cabbage index tracks cabbages from placement until they are cleaned up.
+     */
+    @Test
+    public void testTilesWithCabbageTracksPlacementAndCleanup() {
+        BeanWorld world = new BeanWorld(dimensions);
+        Dirt first = new Dirt(dimensions.tileToPixel(1), dimensions.tileToPixel(1));
+        Dirt second = new Dirt(dimensions.tileToPixel(2), dimensions.tileToPixel(1));
+        world.place(first);
+        world.place(second);
+        Assert.assertTrue(world.tilesWithCabbage().isEmpty());
+
+        Cabbage cabbage = new Cabbage(second.getX(), second.getY());
+        second.placeOn(cabbage);
+        first.placeOn(new Cabbage(first.getX(), first.getY()));
+        Assert.assertEquals(List.of(first, second), world.tilesWithCabbage());
+
+        cabbage.markForRemoval();
+        Assert.assertEquals(
+                "cabbage tiles should be kept until the tile cleans up",
+                List.of(first, second),
+                world.tilesWithCabbage());
+        world.tick(null, null);
+        Assert.assertEquals(List.of(first), world.tilesWithCabbage());
+    }
+
+    /**
+     * Test that rendering the world again reflects tiles placed and entities stacked and cleaned
+     * up since the previous render.
+     */
+    @Test
+    public void testRenderReflectsChangesSincePreviousRender() {
+        BeanWorld world = new BeanWorld(dimensions);
+        Dirt dirt = new Dirt(dimensions.tileToPixel(1), dimensions.tileToPixel(1));
+        world.place(dirt);
+        Assert.assertEquals(List.of(dirt), world.render());
+        Assert.assertEquals(List.of(dirt), world.render());
+
+        Cabbage cabbage = new Cabbage(dirt.getX(), dirt.getY());
+        dirt.placeOn(cabbage);
+        Water water = new Water(dimensions.tileToPixel(2), dimensions.tileToPixel(1));
+        world.place(water);
+        Assert.assertEquals(List.of(dirt, cabbage, water), world.render());
+
+        cabbage.markForRemoval();
+        world.tick(null, null);
+        Assert.assertEquals(List.of(dirt, water), world.render());
+
+        water.markForRemoval();
+        world.tick(null, null);
+        Assert.assertEquals(List.of(dirt), world.render());
+    }
+
+    /**
+     * Test that tiles with only growing cabbages on them are not ticked, that a tile is ticked to
+     * clean up a cabbage marked for removal and then stops being ticked, and that a tile marked
+     * for removal is removed rather than ticked.
+     */
+    @Test
+    public void testTickOnlyTicksActiveTiles() {
+        BeanWorld world = new BeanWorld(dimensions);
+        List<Tile> ticked = new ArrayList<>();
+        List<Tile> tiles = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            int x = dimensions.tileToPixel(i);
+            Tile tile =
+                    new Dirt(x, x) {
+                        @Override
+                        public void tick(EngineState engine) {
+                            ticked.add(this);
+                            super.tick(engine);
+                        }
+                    };
+            tiles.add(tile);
+            world.place(tile);
+        }
+        world.tick(null, null);
+        Assert.assertTrue(ticked.isEmpty());
+
+        Cabbage cabbage = new Cabbage(tiles.get(2).getX(), tiles.get(2).getY());
+        tiles.get(2).placeOn(cabbage);
+        tiles.get(0).placeOn(new Cabbage(tiles.get(0).getX(), tiles.get(0).getY()));
+        world.tick(null, null);
+        Assert.assertTrue("the world should grow the cabbages itself", ticked.isEmpty());
+
+        tiles.get(0).markForRemoval();
+        cabbage.markForRemoval();
+        world.tick(null, null);
+        world.tick(null, null);
+        Assert.assertEquals(
+                "the cabbage's tile should stop being ticked once it is cleaned up",
+                List.of(tiles.get(2)),
+                ticked);
+        Assert.assertEquals(List.of(tiles.get(1), tiles.get(2)), world.allTiles());
+        Assert.assertTrue(world.tilesWithCabbage().isEmpty());
+    }
+
+    /**
+     * Test that cabbages planted in the world at different times grow on the same ticks as
+     * cabbages growing by their own timers, and stop growing once marked for removal.
+     */
+    @Test
+    public void testWorldGrowsCabbagesOnTheirOwnSchedule() {
+        BeanWorld world = new BeanWorld(dimensions);
+        List<Dirt> tiles = new ArrayList<>();
+        List<Cabbage> planted = new ArrayList<>();
+        List<Cabbage> expected = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            Dirt dirt = new Dirt(dimensions.tileToPixel(i), 0);
+            world.place(dirt);
+            tiles.add(dirt);
+        }
+        for (int tick = 0; tick < 800; tick++) {
+            if (tick == 0 || tick == 150 || tick == 199) {
+                Dirt dirt = tiles.get(planted.size());
+                Cabbage cabbage = new Cabbage(dirt.getX(), dirt.getY());
+                dirt.placeOn(cabbage);
+                planted.add(cabbage);
+                expected.add(new Cabbage(dirt.getX(), dirt.getY()));
+            }
+            if (tick == 300) {
+                planted.getFirst().markForRemoval();
+                expected.getFirst().markForRemoval();
+            }
+            world.tick(null, null);
+            for (int i = 0; i < planted.size(); i++) {
+                if (!expected.get(i).isMarkedForRemoval()) {
+                    expected.get(i).tick(null);
+                }
+                Assert.assertSame(
+                        "cabbage " + i + " on tick " + tick,
+                        expected.get(i).getSprite(),
+                        planted.get(i).getSprite());
+            }
+        }
+        Assert.assertEquals(List.of(tiles.get(1), tiles.get(2)), world.tilesWithCabbage());
+    }
+
+    /**
+     * Soak test that hoes every grass tile of a map into dirt and turns it back into grass, over
+     * and over, checking that replaced tiles are reclaimed so the number of tiles stored, rendered
+     * and found at each position stays constant.
+     */
+    @Test
+    public void testReplacedTilesAreReclaimed() throws WorldLoadException {
+        String row = "g".repeat(TILES_PER_ROW);
+        String text = (row + "\n").repeat(TILES_PER_ROW);
+        BeanWorld world =
+                WorldBuilder.fromTiles(dimensions, WorldBuilder.fromString(dimensions, text));
+        TinyInventory inventory = new TinyInventory(1);
+        inventory.setItem(0, new Hoe());
+        GameState game =
+                new JavaBeanGameState(
+                        world, new ChickenFarmer(0, 0), inventory, new NpcManager(),
+                        new EnemyManager(dimensions));
+        int cells = TILES_PER_ROW * TILES_PER_ROW;
+
+        for (int round = 0; round < 50; round++) {
+            for (int column = 0; column < TILES_PER_ROW; column++) {
+                for (int gridRow = 0; gridRow < TILES_PER_ROW; gridRow++) {
+                    int x = dimensions.tileToPixel(column);
+                    int y = dimensions.tileToPixel(gridRow);
+                    List<Tile> stack = world.tilesAtPosition(x, y, dimensions);
+                    Assert.assertEquals(1, stack.size());
+                    Tile tile = stack.getFirst();
+                    if (tile instanceof Grass) {
+                        tile.use(null, game);
+                        Assert.assertTrue(tile.isMarkedForRemoval());
+                    } else {
+                        world.replace(tile, new Grass(x, y));
+                    }
+                }
+            }
+            world.tick(null, null);
+            Assert.assertEquals(cells, world.allTiles().size());
+            Assert.assertEquals(cells, world.render().size());
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package builder.world;
+
+import builder.entities.tiles.Dirt;
+import builder.entities.tiles.Tile;
+import engine.renderer.Dimensions;
+import engine.renderer.Renderable;
+import engine.renderer.TileGrid;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Unit tests for WorldBuilder covering the streaming, compact and binary loaders.
+ *
+ * Location: test/builder/world/WorldBuilderTest.java
+ */
+public class WorldBuilderTest {
+
+    private static final Dimensions dimensions = new TileGrid(3, 300);
+
+    private static String describe(List<Tile> tiles) {
+        StringBuilder result = new StringBuilder();
+        for (Tile tile : tiles) {
+            result.append(tile.getClass().getSimpleName())
+                    .append('@').append(tile.getX()).append(',').append(tile.getY()).append(' ');
+        }
+        return result.toString();
+    }
+
+    /**
+     * Test that reading a world from a reader places the same tiles in the same order as loading
+     * it from a string, whichever line separators are used.
+     */
+    @Test
+    public void testFromReaderMatchesFromString() throws IOException, WorldLoadException {
+        String text = "gdw\nwog\nddd";
+        String expected =
+                describe(WorldBuilder.fromTiles(WorldBuilder.fromString(dimensions, text))
+                        .allTiles());
+
+        for (String separator : List.of("\n", "\r\n", "\r")) {
+            String encoded = text.replace("\n", separator) + separator + separator;
+            BeanWorld world = WorldBuilder.fromReader(dimensions, new StringReader(encoded));
+            Assert.assertEquals(expected, describe(world.allTiles()));
+        }
+    }
+
+    /**
+     * Test that reading a world or a compact world from a reader rejects rows and worlds of the
+     * wrong size, including worlds wider or taller than the window.
+     */
+    @Test
+    public void testFromReaderValidatesDimensions() throws IOException {
+        List<String> invalid =
+                List.of(
+                        "ggg\ngg\nggg",
+                        "ggg\n\nggg",
+                        "ggg\nggg",
+                        "ggg\nggg\nggg\nggg",
+                        "gggg\ngggg\ngggg");
+        for (String text : invalid) {
+            try {
+                WorldBuilder.fromReader(dimensions, new StringReader(text));
+                Assert.fail("Expected a WorldLoadException for " + text);
+            } catch (WorldLoadException expected) {
+                // expected
+            }
+            try {
+                WorldBuilder.compactFromReader(dimensions, new StringReader(text));
+                Assert.fail("Expected a WorldLoadException for a compact " + text);
+            } catch (WorldLoadException expected) {
+                // expected
+            }
+        }
+    }
+
+    /**
+     * Test that a compact world renders, finds and lists the same tiles in the same order as a
+     * world with every tile placed up front.
+     */
+    @Test
+    public void testCompactWorldMatchesFullWorld() throws IOException, WorldLoadException {
+        String text = "gdw\nwot\ndgd";
+        BeanWorld full =
+                WorldBuilder.fromTiles(dimensions, WorldBuilder.fromString(dimensions, text));
+        BeanWorld compact = WorldBuilder.compactFromReader(dimensions, new StringReader(text));
+        Assert.assertEquals(
+                describeRenderables(full.render()), describeRenderables(compact.render()));
+
+        int x = dimensions.tileToPixel(0);
+        int y = dimensions.tileToPixel(2);
+        List<Tile> found = compact.tilesAtPosition(x, y, dimensions);
+        Assert.assertEquals(describe(full.tilesAtPosition(x, y, dimensions)), describe(found));
+        ((Dirt) found.getFirst()).till();
+        ((Dirt) full.tilesAtPosition(x, y, dimensions).getFirst()).till();
+        Assert.assertEquals(
+                describeRenderables(full.render()), describeRenderables(compact.render()));
+
+        Assert.assertEquals(describe(full.allTiles()), describe(compact.allTiles()));
+    }
+
+    /**
+     * Test that a compiled binary map loads into the same world as its text encoding, and that
+     * binary maps of the wrong size or format are rejected.
+     */
+    @Test
+    public void testBinaryMapMatchesTextMap() throws IOException, WorldLoadException {
+        String text = "gdw\nwot\ndgd";
+        ByteArrayOutputStream binary = new ByteArrayOutputStream();
+        MapCompiler.compile(new StringReader(text), binary);
+        Assert.assertEquals(MapCompiler.HEADER_SIZE + 9, binary.size());
+        ByteArrayOutputStream tall = new ByteArrayOutputStream();
+        MapCompiler.compile(new StringReader(text + "\nggg"), tall);
+
+        Path file = Files.createTempFile("world", ".bmap");
+        try {
+            Files.write(file, binary.toByteArray());
+            BeanWorld loaded = WorldBuilder.fromBinaryFile(dimensions, file.toString());
+            BeanWorld expected = WorldBuilder.compactFromReader(dimensions, new StringReader(text));
+            Assert.assertEquals(
+                    describeRenderables(expected.render()), describeRenderables(loaded.render()));
+            Assert.assertEquals(describe(expected.allTiles()), describe(loaded.allTiles()));
+
+            Files.write(file, tall.toByteArray());
+            try {
+                WorldBuilder.fromBinaryFile(dimensions, file.toString());
+                Assert.fail("Expected a WorldLoadException for a map taller than the window");
+            } catch (WorldLoadException e) {
+                // expected
+            }
+
+            Files.write(file, new byte[] {'g', 'g', 'g'});
+            try {
+                WorldBuilder.fromBinaryFile(dimensions, file.toString());
+                Assert.fail("Expected a WorldLoadException for a text file");
+            } catch (WorldLoadException e) {
+                // expected
+            }
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    private static List<String> describeRenderables(List<Renderable> renderables) {
+        List<String> result = new ArrayList<>();
+        for (Renderable renderable : renderables) {
+            result.add(
+                    renderable.getX() + "," + renderable.getY() + " "
+                            + renderable.getSprite().getLabel());
+        }
+        return result;
+    }
+}
@@ -0,0 +1,103 @@
+package scenarios;
+
+import engine.art.sprites.Sprite;
+import engine.game.Game;
+import engine.renderer.Dimensions;
+import engine.renderer.Renderable;
+
+import org.junit.Assert;
+
+import scenarios.mocks.MockEngineState;
+
+import java.util.Random;
+
+/**
+ * Plays two games side by side on the same input, a tick at a time, checking that they draw the
+ * same frames. Used to check that an optimisation which can be turned on or off (e.g. pooling)
+ * does not change how the game plays out.
+ *
+ * <p>The input is random but seeded: the player walks in one direction for a while, now and then
+ * switching item and clicking. Frames are compared by the position and sprite of each renderable
+ * in render order, not by ID, as a reused entity keeps its ID.
+ */
+public final class Lockstep {
+
+    private static final char[] MOVES = {'w', 'a', 's', 'd'};
+    /** The number of ticks the player walks in one direction before picking another. */
+    private static final int WALK_TICKS = 37;
+
+    private final Random random;
+    private final MockEngineState idle;
+    private int frame = 0;
+    private char held = 'w';
+
+    /**
+     * Construct a lockstep run with the given dimensions and input seed.
+     *
+     * @param dimensions The dimensions of the games.
+     * @param seed The seed of the random input.
+     */
+    public Lockstep(Dimensions dimensions, long seed) {
+        this.random = new Random(seed);
+        this.idle = new MockEngineState(dimensions);
+    }
+
+    /**
+     * Returns the input for the next tick.
+     *
+     * @return The state of the engine for the next tick.
+     */
+    public MockEngineState next() {
+        MockEngineState state = idle.withFrame(frame);
+        if (frame % WALK_TICKS == 0) {
+            held = MOVES[random.nextInt(MOVES.length)];
+        }
+        frame++;
+        int roll = random.nextInt(100);
+        if (roll < 4) {
+            return state.press((char) ('1' + random.nextInt(5))).leftClick();
+        } else if (roll < 8) {
+            return state.press((char) ('1' + random.nextInt(5)));
+        } else if (roll < 10) {
+            return state.press(held).leftClick();
+        } else if (roll < 85) {
+            return state.press(held);
+        }
+        return state;
+    }
+
+    /**
+     * Ticks both games the given number of times on the same input, asserting that they draw the
+     * same frame after every tick.
+     *
+     * @param expected The game as it plays out without the optimisation.
+     * @param actual The game as it plays out with the optimisation.
+     * @param ticks The number of ticks to play.
+     */
+    public void play(Game expected, Game actual, int ticks) {
+        for (int i = 0; i < ticks; i++) {
+            MockEngineState state = next();
+            expected.tick(state);
+            actual.tick(state);
+            Assert.assertEquals("frame " + frame, describe(expected), describe(actual));
+        }
+    }
+
+    /**
+     * Describes the frame a game would draw: the position and sprite of each of its renderables,
+     * in render order.
+     *
+     * @param game The game to describe.
+     * @return A description of the game's frame.
+     */
+    public static String describe(Game game) {
+        StringBuilder builder = new StringBuilder();
+        for (Renderable renderable : game.render()) {
+            Sprite sprite = renderable.getSprite();
+            builder.append(renderable.getX()).append(',').append(renderable.getY()).append(',');
+            builder.append(sprite == null ? "-" : sprite.getGroup() + "/" + sprite.getLabel());
+            builder.append(';');
+        }
+        return builder.toString();
+    }
+}